@@ -1,9 +1,12 @@
 package com.categoryservice.category;
 
+import com.categoryservice.category.feignclient.BookClient;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @SpringBootApplication
+@EnableFeignClients(clients = BookClient.class)
 public class CategoryApplication {
 
     public static void main(String[] args) {
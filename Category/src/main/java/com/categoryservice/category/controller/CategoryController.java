@@ -10,6 +10,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/category")
 @Slf4j
@@ -33,6 +36,12 @@ public class CategoryController {
         return new ResponseEntity<>(categoryService.getCategoryById(id), HttpStatus.OK);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<Map<Long, CategoryResponseDTO>> getCategoriesByIds(@RequestBody List<Long> ids) {
+        log.info("Category Controller: Request to getCategoriesByIds for {} ids", ids.size());
+        return new ResponseEntity<>(categoryService.getCategoriesByIds(ids), HttpStatus.OK);
+    }
+
     @GetMapping
     public ResponseEntity<Page<CategoryResponseDTO>> getAllCategories(
             @RequestParam(defaultValue = "0") int page,
@@ -41,6 +50,12 @@ public class CategoryController {
         return new ResponseEntity<>(categoryService.getAllCategories(page, size), HttpStatus.OK);
     }
 
+    @GetMapping("/all")
+    public ResponseEntity<List<CategoryResponseDTO>> getAllCategoriesUnpaged() {
+        log.info("Category Controller: Request to getAllCategoriesUnpaged");
+        return new ResponseEntity<>(categoryService.getAllCategoriesUnpaged(), HttpStatus.OK);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CategoryResponseDTO> updateCategory(@PathVariable("id") Long id, @Valid @RequestBody CategoryRequestDTO categoryRequestDTO) {
         log.info("Category Controller: Request to updateCategory with id: {} - {}", id, categoryRequestDTO);
@@ -0,0 +1,15 @@
+package com.categoryservice.category.feignclient;
+
+import com.categoryservice.category.dto.CategoryResponseDTO;
+import com.ecommerce_books.common.events.CatalogEvent;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@FeignClient(name = "BOOK-SERVICE", path = "/api/v1/books")
+public interface BookClient {
+
+    @PostMapping("/catalog-events/category")
+    ResponseEntity<Void> categoryChanged(@RequestBody CatalogEvent<CategoryResponseDTO> categoryEvent);
+}
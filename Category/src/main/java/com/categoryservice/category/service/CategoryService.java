@@ -3,25 +3,39 @@ package com.categoryservice.category.service;
 import com.categoryservice.category.dto.CategoryRequestDTO;
 import com.categoryservice.category.dto.CategoryResponseDTO;
 import com.categoryservice.category.entity.Category;
+import com.categoryservice.category.exceptions.BadRequestException;
 import com.categoryservice.category.exceptions.CategoryNotFoundException;
+import com.categoryservice.category.feignclient.BookClient;
 import com.categoryservice.category.mapper.CategoryMapper;
 import com.categoryservice.category.repository.CategoryRepository;
+import com.ecommerce_books.common.events.CatalogEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 public class CategoryService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final BookClient bookClient;
 
-    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper) {
+    public CategoryService(CategoryRepository categoryRepository, CategoryMapper categoryMapper, CatalogEventPublisher catalogEventPublisher, BookClient bookClient) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.bookClient = bookClient;
     }
 
     public CategoryResponseDTO createCategory(@RequestBody CategoryRequestDTO categoryRequestDTO) {
@@ -39,6 +53,19 @@ public class CategoryService {
         return  categoryMapper.categoryToCategoryResponseDTO(category);
     }
 
+    public Map<Long, CategoryResponseDTO> getCategoriesByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Cannot get more than " + MAX_BATCH_SIZE + " categories at once");
+        }
+        log.info("Category Service: Request to getCategoriesByIds for {} ids", ids.size());
+        return categoryRepository.findAllById(ids).stream()
+                .map(categoryMapper::categoryToCategoryResponseDTO)
+                .collect(Collectors.toMap(CategoryResponseDTO::id, Function.identity()));
+    }
+
     public void deleteCategoryById(Long id){
         log.info("Category Service: Request to delete a category : {}", id);
         Category category = categoryRepository.findById(id).orElseThrow(
@@ -54,6 +81,13 @@ public class CategoryService {
         return categoryPage.map(categoryMapper::categoryToCategoryResponseDTO);
     }
 
+    public List<CategoryResponseDTO> getAllCategoriesUnpaged() {
+        log.info("Category Service: Getting all categories unpaged");
+        return categoryRepository.findAll().stream()
+                .map(categoryMapper::categoryToCategoryResponseDTO)
+                .toList();
+    }
+
     public CategoryResponseDTO updateCategory(Long id, CategoryRequestDTO categoryRequestDTO) {
         log.info("Category Service: Updating category with id: {} - {}", id, categoryRequestDTO);
         Category category = categoryRepository.findById(id).orElseThrow(
@@ -62,6 +96,8 @@ public class CategoryService {
         category.setCategoryName(categoryRequestDTO.categoryName());
         Category updatedCategory = categoryRepository.saveAndFlush(category);
         log.info("Category Service: Category updated successfully: {}", updatedCategory);
-        return categoryMapper.categoryToCategoryResponseDTO(updatedCategory);
+        CategoryResponseDTO categoryResponseDTO = categoryMapper.categoryToCategoryResponseDTO(updatedCategory);
+        catalogEventPublisher.publishChanged("category", categoryResponseDTO.id(), categoryResponseDTO, bookClient::categoryChanged);
+        return categoryResponseDTO;
     }
 }
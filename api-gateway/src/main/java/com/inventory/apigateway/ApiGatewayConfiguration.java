@@ -1,5 +1,7 @@
 package com.inventory.apigateway;
 
+import com.inventory.apigateway.filter.ResponseCacheFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,10 +9,24 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 
+import java.time.Duration;
+
 @Configuration
 public class ApiGatewayConfiguration {
+
+    // Book responses embed price, stock and rating summaries, so writes on those services make them stale
+    private static final String[] BOOK_READS = {"/api/v1/books", "/api/v1/storefront"};
+
+    /**
+     * Routes to the services. Rate limiting is not a route filter: RateLimitFilter is a WebFilter, so it also
+     * covers requests handled by the gateway's own controllers.
+     */
     @Bean
-    public RouteLocator gatewayRouter(RouteLocatorBuilder builder) {
+    public RouteLocator gatewayRouter(RouteLocatorBuilder builder,
+                                      ResponseCacheFilter responseCache,
+                                      @Value("${gateway.response-cache.ttl.books:30s}") Duration booksTtl,
+                                      @Value("${gateway.response-cache.ttl.category:5m}") Duration categoryTtl,
+                                      @Value("${gateway.response-cache.ttl.reviews:1m}") Duration reviewsTtl) {
         return builder.routes()
                 // OAuth2 routes (must be first for proper matching)
                 .route(p -> p.path("/api/v1/oauth2/**")
@@ -29,34 +45,42 @@ public class ApiGatewayConfiguration {
                 .route(p -> p.path("/api/v1/user/**")
                         .uri("lb://AUTH-SERVICE"))
                 .route(p -> p.path("/api/v1/books/**")
+                        .filters(f -> f.filter(responseCache.forRoute("/api/v1/books", booksTtl,
+                                        "/api/v1/books/export", "/api/v1/books/import")))
                         .uri("lb://BOOK-SERVICE"))
                 .route(p -> p.path("/api/v1/category/**")
+                        .filters(f -> f.filter(responseCache.forRoute("/api/v1/category", categoryTtl)))
                         .uri("lb://CATEGORY-SERVICE"))
                 .route(p -> p.path("/api/v1/price/**")
+                        .filters(f -> f.filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://PRICE-SERVICE"))
                 .route(p -> p.path("/api/v1/review/**")
+                        .filters(f -> f.filter(responseCache.forRoute("/api/v1/review/book", reviewsTtl))
+                                .filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://REVIEW-SERVICE"))
                 .route(p -> p.path("/api/v1/inventory/**")
+                        .filters(f -> f.filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://INVENTORY-SERVICE"))
 
                 // Prefixed routes (for manual API calls)
                 .route(p -> p.path("/books/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://BOOK-SERVICE"))
                 .route(p -> p.path("/price/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://PRICE-SERVICE"))
                 .route(p -> p.path("/inventory/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(responseCache.evictingOnWrite(BOOK_READS)))
                         .uri("lb://INVENTORY-SERVICE"))
                 .route(p -> p.path("/category/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(responseCache.evictingOnWrite("/api/v1/category")))
                         .uri("lb://CATEGORY-SERVICE"))
                 .route(p -> p.path("/auth/**")
                         .filters(f -> f.stripPrefix(1))
                         .uri("lb://AUTH-SERVICE"))
                 .route(p -> p.path("/review/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(responseCache.evictingOnWrite("/api/v1/review/book",
+                                "/api/v1/books", "/api/v1/storefront")))
                         .uri("lb://REVIEW-SERVICE"))
                 .route(p -> p.path("/user/**")
                         .filters(f -> f.stripPrefix(1))
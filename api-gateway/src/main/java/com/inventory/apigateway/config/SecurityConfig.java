@@ -26,6 +26,16 @@ public class SecurityConfig {
                 .csrf(ServerHttpSecurity.CsrfSpec::disable)
                 .cors(ServerHttpSecurity.CorsSpec::disable)
                 .authorizeExchange(auth -> auth
+                        // Internal service-to-service endpoints - never exposed through the gateway
+                        .pathMatchers("/api/v1/books/catalog-events/**", "/books/api/v1/books/catalog-events/**").denyAll()
+                        .pathMatchers("/api/v1/price/book-events/**", "/price/api/v1/price/book-events/**").denyAll()
+                        .pathMatchers("/api/v1/inventory/book-events/**", "/inventory/api/v1/inventory/book-events/**").denyAll()
+                        .pathMatchers("/api/v1/price/bulk", "/price/api/v1/price/bulk").denyAll()
+                        .pathMatchers("/api/v1/inventory/bulk", "/inventory/api/v1/inventory/bulk").denyAll()
+                        // Raw stock adjustments are not tied to an owner; shoppers go through /reservations
+                        .pathMatchers("/api/v1/inventory/book/*/reserve", "/api/v1/inventory/book/*/release",
+                                "/inventory/api/v1/inventory/book/*/reserve", "/inventory/api/v1/inventory/book/*/release").denyAll()
+
                         // Public endpoints - Auth (with gateway prefix)
                         .pathMatchers("/auth/api/v1/auth/register").permitAll()
                         .pathMatchers("/auth/api/v1/auth/login").permitAll()
@@ -59,10 +69,19 @@ public class SecurityConfig {
                         .pathMatchers(HttpMethod.GET, "/api/v1/review/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/review/book/**").permitAll()
 
+                        // Bulk catalog import - Admin only, including progress reads
+                        .pathMatchers("/api/v1/books/import", "/api/v1/books/import/**",
+                                "/books/api/v1/books/import", "/books/api/v1/books/import/**").hasRole("ADMIN")
+
+                        // Full catalog export - authenticated partners only
+                        .pathMatchers(HttpMethod.GET, "/api/v1/books/export").authenticated()
+
                         // Public read access - GET only
+                        .pathMatchers(HttpMethod.GET, "/api/v1/storefront/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/books/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/category/**").permitAll()
                         .pathMatchers(HttpMethod.GET, "/api/v1/price/**").permitAll()
+                        .pathMatchers("/api/v1/inventory/reservations/**").hasAnyRole("USER", "ADMIN")
                         .pathMatchers(HttpMethod.GET, "/api/v1/inventory/**").permitAll()
 
                         // Admin-only endpoints - Book Service
@@ -0,0 +1,49 @@
+package com.inventory.apigateway.controller;
+
+import com.inventory.apigateway.dto.StorefrontBookDTO;
+import com.inventory.apigateway.service.StorefrontService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/storefront")
+@Tag(name = "Storefront", description = "Aggregated read APIs for the storefront pages")
+public class StorefrontController {
+
+    private final StorefrontService storefrontService;
+
+    public StorefrontController(StorefrontService storefrontService) {
+        this.storefrontService = storefrontService;
+    }
+
+    @Operation(
+            summary = "Get the book detail page",
+            description = "Returns the book, its rating summary and its newest reviews in one call. " +
+                    "When review-service is slow the book is returned alone with reviewsAvailable set to false."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Book details retrieved, possibly without reviews"),
+            @ApiResponse(responseCode = "404", description = "Book not found"),
+            @ApiResponse(responseCode = "502", description = "Book service is unavailable"),
+            @ApiResponse(responseCode = "504", description = "Book service did not respond in time")
+    })
+    @GetMapping("/books/{id}")
+    public Mono<StorefrontBookDTO> getBookDetails(
+            @Parameter(description = "Book ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Review page number (0-indexed)", example = "0")
+            @RequestParam(defaultValue = "0") int reviewPage,
+            @Parameter(description = "Number of reviews per page, at most 50", example = "20")
+            @RequestParam(defaultValue = "20") int reviewSize) {
+        return storefrontService.getBookDetails(id, reviewPage, reviewSize);
+    }
+}
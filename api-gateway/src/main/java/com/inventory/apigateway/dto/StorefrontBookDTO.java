@@ -0,0 +1,19 @@
+package com.inventory.apigateway.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Everything the book detail page needs in one response")
+public record StorefrontBookDTO(
+        @Schema(description = "Book as returned by book-service, including price and stock")
+        JsonNode book,
+
+        @Schema(description = "Review count, average rating and histogram; null when review-service did not answer in time")
+        JsonNode ratingSummary,
+
+        @Schema(description = "First page of the book's reviews, newest first; null when review-service did not answer in time")
+        JsonNode reviews,
+
+        @Schema(description = "False when the review parts are missing and the response is partial", example = "true")
+        boolean reviewsAvailable) {
+}
@@ -1,7 +1,8 @@
 package com.inventory.apigateway.filter;
 
-import com.inventory.apigateway.util.JwtUtil;
+import com.inventory.apigateway.util.VerifiedClaimsCache;
 import io.jsonwebtoken.Claims;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
@@ -17,14 +18,24 @@ import java.util.stream.Collectors;
 @Component
 public class JwtAuthenticationFilter implements WebFilter {
 
-    private final JwtUtil jwtUtil;
+    private static final List<String> USER_CONTEXT_HEADERS = List.of("X-User-Id", "X-Username", "X-User-Roles");
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    private final VerifiedClaimsCache verifiedClaimsCache;
+
+    public JwtAuthenticationFilter(VerifiedClaimsCache verifiedClaimsCache) {
+        this.verifiedClaimsCache = verifiedClaimsCache;
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // User context headers are only trusted when set below from a verified token, never from the client
+        HttpHeaders incoming = exchange.getRequest().getHeaders();
+        if (USER_CONTEXT_HEADERS.stream().anyMatch(incoming::containsKey)) {
+            exchange = exchange.mutate()
+                    .request(r -> r.headers(headers -> USER_CONTEXT_HEADERS.forEach(headers::remove)))
+                    .build();
+        }
+
         String authHeader = exchange.getRequest().getHeaders().getFirst("Authorization");
 
         // If no Authorization header or not Bearer token, continue without authentication
@@ -35,12 +46,9 @@ public class JwtAuthenticationFilter implements WebFilter {
         String token = authHeader.substring(7);
 
         try {
-            if (jwtUtil.isTokenExpired(token)) {
-                return chain.filter(exchange);
-            }
-
-            String username = jwtUtil.extractUsername(token);
-            Claims claims = jwtUtil.extractAllClaims(token);
+            // Signature and expiry are checked in a single parse, or skipped when the token was verified before
+            Claims claims = verifiedClaimsCache.getVerifiedClaims(token);
+            String username = claims.getSubject();
 
             @SuppressWarnings("unchecked")
             List<String> roles = claims.get("roles", List.class);
@@ -0,0 +1,212 @@
+package com.inventory.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token bucket rate limiting for everything the gateway serves, proxied routes as well as its own
+ * controllers such as the storefront. Each path prefix maps to a named quota; paths sharing a quota share buckets.
+ * Clients are identified by the X-User-Id that {@link JwtAuthenticationFilter} sets for verified tokens, otherwise
+ * by their IP address. Each bucket is a single {@link AtomicLong} updated with compare-and-set (the GCRA form of
+ * a token bucket), so the hot path takes no locks and allocates no timer. Responses carry
+ * RateLimit-Limit/Remaining/Reset; rejected requests get a 429 with Retry-After.
+ * <p>
+ * gateway.rate-limit.trusted-proxies must equal the number of proxies in front of the gateway (1 behind the
+ * hosting platform's load balancer, 0 only when clients connect directly). Left at 0 behind a proxy, every
+ * anonymous client resolves to the proxy's address and they all share one bucket per quota. Server-side callers
+ * such as the Streamlit frontend always count as one client.
+ */
+@Component
+public class RateLimitFilter implements WebFilter, Ordered {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String USER_ID_HEADER = "X-User-Id";
+    // Right after Spring Security's chain (-100), whose JWT filter sets X-User-Id
+    private static final int ORDER = -99;
+
+    // Direct and prefixed paths of a service share its quota; OAuth2 login redirects are not limited
+    private static final Map<String, String> QUOTA_BY_PATH = new LinkedHashMap<>();
+
+    static {
+        QUOTA_BY_PATH.put("/api/v1/auth/**", "auth");
+        QUOTA_BY_PATH.put("/auth/**", "auth");
+        QUOTA_BY_PATH.put("/api/v1/user/**", "auth");
+        QUOTA_BY_PATH.put("/user/**", "auth");
+        QUOTA_BY_PATH.put("/api/v1/books/**", "books");
+        QUOTA_BY_PATH.put("/books/**", "books");
+        QUOTA_BY_PATH.put("/api/v1/category/**", "category");
+        QUOTA_BY_PATH.put("/category/**", "category");
+        QUOTA_BY_PATH.put("/api/v1/price/**", "price");
+        QUOTA_BY_PATH.put("/price/**", "price");
+        QUOTA_BY_PATH.put("/api/v1/review/**", "review");
+        QUOTA_BY_PATH.put("/review/**", "review");
+        QUOTA_BY_PATH.put("/api/v1/inventory/**", "inventory");
+        QUOTA_BY_PATH.put("/inventory/**", "inventory");
+        QUOTA_BY_PATH.put("/api/v1/storefront/**", "storefront");
+    }
+
+    private final Cache<String, AtomicLong> buckets;
+    private final RemoteAddressResolver remoteAddressResolver;
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final long defaultReplenishRate;
+    private final long defaultBurstCapacity;
+    private final List<QuotaPath> quotaPaths;
+
+    public RateLimitFilter(Environment environment,
+                           MeterRegistry meterRegistry,
+                           @Value("${gateway.rate-limit.replenish-rate:20}") long defaultReplenishRate,
+                           @Value("${gateway.rate-limit.burst-capacity:40}") long defaultBurstCapacity,
+                           @Value("${gateway.rate-limit.maximum-clients:100000}") long maximumClients,
+                           @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                           @Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.remoteAddressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+        if (trustedProxies == 0 && !environment.matchesProfiles("local")) {
+            log.warn("Rate Limit: gateway.rate-limit.trusted-proxies is 0, so behind a proxy all anonymous clients share "
+                    + "one bucket per quota; set it to the number of proxy hops in front of the gateway");
+        }
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.defaultReplenishRate = defaultReplenishRate;
+        this.defaultBurstCapacity = defaultBurstCapacity;
+        Map<String, Quota> quotas = new HashMap<>();
+        this.quotaPaths = QUOTA_BY_PATH.entrySet().stream()
+                .map(entry -> new QuotaPath(PathPatternParser.defaultInstance.parse(entry.getKey()),
+                        quotas.computeIfAbsent(entry.getValue(), this::quota)))
+                .toList();
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        Quota quota = quotaFor(exchange);
+        if (quota == null) {
+            return chain.filter(exchange);
+        }
+        Decision decision = tryAcquire(quota, clientKey(exchange));
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set(LIMIT_HEADER, String.valueOf(quota.burstCapacity()));
+        headers.set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        headers.set(RESET_HEADER, String.valueOf(toSeconds(decision.resetNanos())));
+        if (!decision.allowed()) {
+            quota.rejected().increment();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return response.setComplete();
+        }
+        return chain.filter(exchange);
+    }
+
+    /**
+     * Builds one quota. The rate and burst are read from {@code gateway.rate-limit.routes.<name>.replenish-rate}
+     * and {@code .burst-capacity}, falling back to the gateway-wide defaults.
+     */
+    private Quota quota(String quotaName) {
+        String prefix = "gateway.rate-limit.routes." + quotaName;
+        long replenishRate = environment.getProperty(prefix + ".replenish-rate", Long.class, defaultReplenishRate);
+        long burstCapacity = environment.getProperty(prefix + ".burst-capacity", Long.class, defaultBurstCapacity);
+        Counter rejected = Counter.builder("gateway.rate_limit.rejected")
+                .description("Requests rejected by the gateway rate limiter")
+                .tag("quota", quotaName)
+                .register(meterRegistry);
+        return new Quota(quotaName, burstCapacity, TimeUnit.SECONDS.toNanos(1) / replenishRate, rejected);
+    }
+
+    private Quota quotaFor(ServerWebExchange exchange) {
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (QuotaPath quotaPath : quotaPaths) {
+            if (quotaPath.pattern().matches(path)) {
+                return quotaPath.quota();
+            }
+        }
+        return null;
+    }
+
+    private Decision tryAcquire(Quota quota, String clientKey) {
+        long now = System.nanoTime();
+        AtomicLong theoreticalArrival = buckets.get(quota.name() + '|' + clientKey, key -> new AtomicLong(now));
+        long interval = quota.emissionIntervalNanos();
+        long tolerance = interval * quota.burstCapacity();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + interval;
+            long untilFull = next - now;
+            if (untilFull > tolerance) {
+                return new Decision(false, 0, Math.max(current - now, 0), untilFull - tolerance);
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return new Decision(true, (tolerance - untilFull) / interval, untilFull, 0);
+            }
+        }
+    }
+
+    private String clientKey(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst(USER_ID_HEADER);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null) {
+            return "ip:unknown";
+        }
+        return "ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private record Quota(String name, long burstCapacity, long emissionIntervalNanos, Counter rejected) {
+    }
+
+    private record QuotaPath(PathPattern pattern, Quota quota) {
+    }
+
+    private record Decision(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,367 @@
+package com.inventory.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory cache for public catalog reads, keyed by path plus query. Only anonymous GETs that come back
+ * 200 without cookies or a private/no-store Cache-Control are stored. Within the route's TTL an entry is
+ * served as is; for a further stale-while-revalidate window it is still served while a single background
+ * request refreshes it. Every response carries an ETag so a matching If-None-Match gets a bodiless 304.
+ * Size is bounded by total body bytes, and a body larger than max-entry-bytes is streamed through without
+ * being buffered in full. A successful write on a route drops that route's cached entries and those of the
+ * routes registered as depending on it.
+ * Concurrent misses for the same key are coalesced: one request goes upstream and the others are answered
+ * from its body, wrapping the same byte array instead of copying it per waiter.
+ */
+@Component
+public class ResponseCacheFilter {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private final Cache<String, CachedResponse> responses;
+    private final Map<String, Mono<Optional<CachedResponse>>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private final WebClient webClient;
+    private final Duration staleWhileRevalidate;
+    private final int maxEntryBytes;
+    private final Duration revalidateTimeout;
+
+    public ResponseCacheFilter(MeterRegistry meterRegistry,
+                               WebClient.Builder webClientBuilder,
+                               ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                               @Value("${gateway.response-cache.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+                               @Value("${gateway.response-cache.max-entry-bytes:1048576}") int maxEntryBytes,
+                               @Value("${gateway.response-cache.stale-while-revalidate:60s}") Duration staleWhileRevalidate,
+                               @Value("${gateway.response-cache.revalidate-timeout:5s}") Duration revalidateTimeout) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfter(new UntilStale())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "gatewayResponses");
+        this.webClient = webClientBuilder.clone()
+                .filter(loadBalancerFunction)
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(maxEntryBytes))
+                .build();
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.maxEntryBytes = maxEntryBytes;
+        this.revalidateTimeout = revalidateTimeout;
+    }
+
+    /**
+     * @param cachedPathPrefix    GETs under this prefix are cached, and writes on the route invalidate them
+     * @param ttl                 how long an entry is served without revalidation
+     * @param uncachedPathPrefixes paths under the cached prefix that always go through, e.g. streamed responses
+     */
+    public GatewayFilter forRoute(String cachedPathPrefix, Duration ttl, String... uncachedPathPrefixes) {
+        RoutePolicy policy = new RoutePolicy(cachedPathPrefix, ttl, List.of(uncachedPathPrefixes));
+        return (exchange, chain) -> filter(exchange, chain, policy);
+    }
+
+    /**
+     * For routes whose writes change what other routes return, e.g. a new price or stock level shows up in the
+     * book responses. A successful non-GET on the route drops every cached entry under the given prefixes.
+     */
+    public GatewayFilter evictingOnWrite(String... dependentPathPrefixes) {
+        List<String> pathPrefixes = List.of(dependentPathPrefixes);
+        return (exchange, chain) -> HttpMethod.GET.equals(exchange.getRequest().getMethod())
+                ? chain.filter(exchange)
+                : invalidateAfterWrite(exchange, chain, pathPrefixes);
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, RoutePolicy policy) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!HttpMethod.GET.equals(request.getMethod())) {
+            return invalidateAfterWrite(exchange, chain, List.of(policy.cachedPathPrefix()));
+        }
+        if (!policy.isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(request);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null) {
+            if (cached.isFresh(System.nanoTime())) {
+                return serve(exchange, cached, "HIT");
+            }
+            revalidate(exchange, key, policy);
+            return serve(exchange, cached, "STALE");
+        }
+        return fetchOnce(exchange, chain, key, policy);
+    }
+
+    /**
+     * Single-flight for cache misses. The first request for a key forwards upstream and publishes the buffered
+     * 200 to every request that arrived meanwhile. When the leader's response cannot be shared (not a 200, not
+     * storable, or the leader was cancelled) the waiters fall back to forwarding on their own.
+     */
+    private Mono<Void> fetchOnce(ServerWebExchange exchange, GatewayFilterChain chain, String key, RoutePolicy policy) {
+        Sinks.One<Optional<CachedResponse>> result = Sinks.one();
+        Mono<Optional<CachedResponse>> shared = result.asMono();
+        Mono<Optional<CachedResponse>> leader = inFlight.putIfAbsent(key, shared);
+        if (leader != null) {
+            return leader.flatMap(response -> response.isPresent()
+                    ? serve(exchange, response.get(), "COALESCED")
+                    : chain.filter(exchange));
+        }
+        return chain.filter(exchange.mutate().response(new CachingResponse(exchange, key, policy, result)).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, shared);
+                    result.tryEmitValue(Optional.empty());
+                });
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, CachedResponse cached, String cacheStatus) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.setETag(cached.etag());
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        headers.set(HttpHeaders.AGE, String.valueOf(Duration.ofNanos(System.nanoTime() - cached.storedAtNanos()).toSeconds()));
+        if (matchesIfNoneMatch(exchange.getRequest(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.contentType() != null) {
+            headers.setContentType(cached.contentType());
+        }
+        headers.setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * Refreshes a stale entry off the request path. At most one refresh per key is in flight; failures keep
+     * serving the stale entry until its stale window runs out.
+     */
+    private void revalidate(ServerWebExchange exchange, String key, RoutePolicy policy) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || !revalidating.add(key)) {
+            return;
+        }
+        URI uri = URI.create("http://" + route.getUri().getHost() + key);
+        webClient.get()
+                .uri(uri)
+                .exchangeToMono(response -> {
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    if (response.statusCode().value() != HttpStatus.OK.value() || !isStorable(headers)
+                            || headers.getContentLength() > maxEntryBytes) {
+                        return response.releaseBody().then(Mono.<CachedResponse>empty());
+                    }
+                    // The codec's maxInMemorySize counts bytes as they arrive and aborts once the body outgrows
+                    // maxEntryBytes, so an oversized entry is dropped without being read in full
+                    return response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(new byte[0])
+                            .map(body -> toCachedResponse(headers, body, policy))
+                            .onErrorResume(DataBufferLimitException.class, e -> Mono.empty());
+                })
+                .timeout(revalidateTimeout)
+                .doFinally(signal -> revalidating.remove(key))
+                .subscribe(
+                        refreshed -> store(key, refreshed),
+                        e -> log.warn("Response Cache: Revalidation of {} failed: {}", key, e.getMessage()));
+    }
+
+    private void store(String key, CachedResponse response) {
+        responses.put(key, response);
+    }
+
+    private Mono<Void> invalidateAfterWrite(ServerWebExchange exchange, GatewayFilterChain chain, List<String> pathPrefixes) {
+        return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            if (status != null && status.is2xxSuccessful()) {
+                responses.asMap().keySet().removeIf(key -> pathPrefixes.stream().anyMatch(key::startsWith));
+            }
+        }));
+    }
+
+    private CachedResponse toCachedResponse(HttpHeaders headers, byte[] body, RoutePolicy policy) {
+        String etag = headers.getETag() != null ? headers.getETag() : etagOf(body);
+        long now = System.nanoTime();
+        long freshUntil = now + policy.ttl().toNanos();
+        return new CachedResponse(body, headers.getContentType(), etag, now, freshUntil, freshUntil + staleWhileRevalidate.toNanos());
+    }
+
+    private static boolean isStorable(HttpHeaders headers) {
+        if (headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    private static boolean matchesIfNoneMatch(ServerHttpRequest request, String etag) {
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+        return ifNoneMatch.contains("*") || ifNoneMatch.contains(etag) || ifNoneMatch.contains("W/" + etag);
+    }
+
+    private static String cacheKey(ServerHttpRequest request) {
+        URI uri = request.getURI();
+        return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Buffers a cache miss so it can be stored, shared with coalesced waiters, tagged and, when the client
+     * already holds it, answered with a 304.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+        private final String key;
+        private final RoutePolicy policy;
+        private final Sinks.One<Optional<CachedResponse>> result;
+
+        CachingResponse(ServerWebExchange exchange, String key, RoutePolicy policy, Sinks.One<Optional<CachedResponse>> result) {
+            super(exchange.getResponse());
+            this.request = exchange.getRequest();
+            this.key = key;
+            this.policy = policy;
+            this.result = result;
+        }
+
+        /**
+         * Collects the body while counting its bytes. A body announced or found to be larger than maxEntryBytes
+         * stops being collected as soon as it crosses the limit: what was read so far and the rest are streamed
+         * to the client unchanged, and nothing is stored or shared.
+         */
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            if (status == null || status.value() != HttpStatus.OK.value() || !isStorable(getHeaders())
+                    || getHeaders().getContentLength() > maxEntryBytes) {
+                result.tryEmitValue(Optional.empty());
+                return super.writeWith(body);
+            }
+            AtomicLong size = new AtomicLong();
+            return Flux.<DataBuffer>from(body)
+                    // One chunk holding the whole body, or a first chunk ending with the buffer that crossed the limit
+                    .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > maxEntryBytes)
+                    .switchOnFirst((first, chunks) -> {
+                        if (size.get() > maxEntryBytes || first.isOnError()) {
+                            result.tryEmitValue(Optional.empty());
+                            return super.writeWith(chunks.concatMapIterable(Function.identity()));
+                        }
+                        List<DataBuffer> buffers = first.hasValue() ? first.get() : List.of();
+                        return chunks.then(Mono.defer(() -> writeCached(buffers)));
+                    })
+                    .then();
+        }
+
+        private Mono<Void> writeCached(List<DataBuffer> buffers) {
+            byte[] bytes = new byte[buffers.stream().mapToInt(DataBuffer::readableByteCount).sum()];
+            int offset = 0;
+            for (DataBuffer buffer : buffers) {
+                int length = buffer.readableByteCount();
+                buffer.read(bytes, offset, length);
+                offset += length;
+                DataBufferUtils.release(buffer);
+            }
+
+            CachedResponse cached = toCachedResponse(getHeaders(), bytes, policy);
+            store(key, cached);
+            result.tryEmitValue(Optional.of(cached));
+
+            HttpHeaders headers = getHeaders();
+            headers.setETag(cached.etag());
+            headers.set(CACHE_STATUS_HEADER, "MISS");
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            if (matchesIfNoneMatch(request, cached.etag())) {
+                headers.remove(HttpHeaders.CONTENT_LENGTH);
+                setStatusCode(HttpStatus.NOT_MODIFIED);
+                return setComplete();
+            }
+            headers.setContentLength(bytes.length);
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        }
+    }
+
+    private record RoutePolicy(String cachedPathPrefix, Duration ttl, List<String> uncachedPathPrefixes) {
+
+        boolean isCacheable(ServerHttpRequest request) {
+            String path = request.getURI().getRawPath();
+            return !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                    && path.startsWith(cachedPathPrefix)
+                    && uncachedPathPrefixes.stream().noneMatch(path::startsWith);
+        }
+    }
+
+    private record CachedResponse(byte[] body, MediaType contentType, String etag,
+                                  long storedAtNanos, long freshUntilNanos, long staleUntilNanos) {
+
+        boolean isFresh(long now) {
+            return now - freshUntilNanos < 0;
+        }
+    }
+
+    private record UntilStale() implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return Math.max(response.staleUntilNanos() - System.nanoTime(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, response, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
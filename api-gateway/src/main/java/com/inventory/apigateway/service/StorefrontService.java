@@ -0,0 +1,91 @@
+package com.inventory.apigateway.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.apigateway.dto.StorefrontBookDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Backend-for-frontend aggregation for the book detail page. The book, its rating summary and its first page of
+ * reviews are requested concurrently. The book is required; the review parts are optional and are dropped when
+ * review-service fails or misses its deadline, so a slow review-service never holds the page up.
+ */
+@Service
+public class StorefrontService {
+
+    private static final Logger log = LoggerFactory.getLogger(StorefrontService.class);
+    private static final int MAX_REVIEW_PAGE_SIZE = 50;
+
+    private final WebClient webClient;
+    private final Duration bookTimeout;
+    private final Duration reviewsTimeout;
+
+    public StorefrontService(WebClient.Builder webClientBuilder,
+                             ReactorLoadBalancerExchangeFilterFunction loadBalancerFunction,
+                             @Value("${storefront.book-timeout:2s}") Duration bookTimeout,
+                             @Value("${storefront.reviews-timeout:300ms}") Duration reviewsTimeout) {
+        this.webClient = webClientBuilder.clone().filter(loadBalancerFunction).build();
+        this.bookTimeout = bookTimeout;
+        this.reviewsTimeout = reviewsTimeout;
+    }
+
+    public Mono<StorefrontBookDTO> getBookDetails(Long bookId, int reviewPage, int reviewSize) {
+        int page = Math.max(reviewPage, 0);
+        int size = Math.min(Math.max(reviewSize, 1), MAX_REVIEW_PAGE_SIZE);
+        Mono<JsonNode> book = webClient.get()
+                .uri("http://BOOK-SERVICE/api/v1/books/{id}", bookId)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(bookTimeout)
+                .onErrorMap(e -> toStatusException(bookId, e));
+
+        Mono<Optional<JsonNode>> ratingSummary = optional(bookId, webClient.get()
+                .uri("http://REVIEW-SERVICE/api/v1/review/book/{id}/summary", bookId)
+                .retrieve()
+                .bodyToMono(JsonNode.class));
+
+        Mono<Optional<JsonNode>> reviews = optional(bookId, webClient.get()
+                .uri("http://REVIEW-SERVICE/api/v1/review/book/{id}?page={page}&size={size}", bookId, page, size)
+                .retrieve()
+                .bodyToMono(JsonNode.class));
+
+        return Mono.zip(book, ratingSummary, reviews)
+                .map(parts -> new StorefrontBookDTO(
+                        parts.getT1(),
+                        parts.getT2().orElse(null),
+                        parts.getT3().orElse(null),
+                        parts.getT2().isPresent() && parts.getT3().isPresent()));
+    }
+
+    private Mono<Optional<JsonNode>> optional(Long bookId, Mono<JsonNode> call) {
+        return call.timeout(reviewsTimeout)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("Storefront Service: Serving book {} without reviews: {}", bookId, e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private static Throwable toStatusException(Long bookId, Throwable e) {
+        if (e instanceof WebClientResponseException.NotFound) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, "Book not found with id: " + bookId);
+        }
+        if (e instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Book service did not respond in time", e);
+        }
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Book service is unavailable", e);
+    }
+}
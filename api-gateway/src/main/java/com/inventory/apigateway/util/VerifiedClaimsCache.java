@@ -0,0 +1,94 @@
+package com.inventory.apigateway.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+
+/**
+ * Cache of claims from tokens whose signature has already been verified, keyed by the SHA-256 of the token.
+ * An entry never outlives the token's own expiry, so repeat requests from a session skip the HMAC check
+ * without ever accepting an expired token.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, Claims> verifiedClaims;
+
+    public VerifiedClaimsCache(JwtUtil jwtUtil,
+                               MeterRegistry meterRegistry,
+                               @Value("${jwt.claims-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${jwt.claims-cache.max-ttl:15m}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(maxTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtClaims");
+    }
+
+    /**
+     * Returns the verified claims of the token, parsing it only when it is not cached yet.
+     * Invalid or expired tokens throw the same jjwt exceptions as {@link JwtUtil#extractAllClaims(String)}.
+     */
+    public Claims getVerifiedClaims(String token) {
+        String key = hash(token);
+        Claims claims = verifiedClaims.get(key, k -> jwtUtil.extractAllClaims(token));
+        if (isExpired(claims)) {
+            verifiedClaims.invalidate(key);
+            return jwtUtil.extractAllClaims(token);
+        }
+        return claims;
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiresAt = claims.getExpiration();
+        return expiresAt != null && expiresAt.before(new Date());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record UntilTokenExpiry(Duration maxTtl) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long ttlNanos = maxTtl.toNanos();
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt != null) {
+                long remainingMillis = expiresAt.getTime() - System.currentTimeMillis();
+                ttlNanos = Math.min(ttlNanos, Duration.ofMillis(Math.max(remainingMillis, 0)).toNanos());
+            }
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
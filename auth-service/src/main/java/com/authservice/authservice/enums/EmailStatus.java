@@ -0,0 +1,7 @@
+package com.authservice.authservice.enums;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
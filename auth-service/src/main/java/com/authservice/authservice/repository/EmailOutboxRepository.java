@@ -0,0 +1,27 @@
+package com.authservice.authservice.repository;
+
+import com.authservice.authservice.entity.EmailOutbox;
+import com.authservice.authservice.enums.EmailStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Locks the next due emails. Rows already locked by another auth-service instance are skipped
+     * (lock timeout -2 is SKIP LOCKED), so several dispatchers never send the same email.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<EmailOutbox> lockDueEmails(@Param("status") EmailStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+}
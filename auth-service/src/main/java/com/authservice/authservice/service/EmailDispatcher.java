@@ -0,0 +1,147 @@
+package com.authservice.authservice.service;
+
+import com.authservice.authservice.entity.EmailOutbox;
+import com.authservice.authservice.enums.EmailStatus;
+import com.authservice.authservice.repository.EmailOutboxRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the email outbox. Each run sends one batch of due emails over a single SMTP connection and
+ * reschedules failures with exponential backoff until max-attempts is reached.
+ */
+@Service
+@Slf4j
+public class EmailDispatcher {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    public EmailDispatcher(EmailOutboxRepository emailOutboxRepository,
+                           JavaMailSender mailSender,
+                           @Value("${email.outbox.batch-size:50}") int batchSize,
+                           @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                           @Value("${email.outbox.initial-backoff:30s}") Duration initialBackoff,
+                           @Value("${email.outbox.max-backoff:1h}") Duration maxBackoff) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:2s}")
+    @Transactional
+    public void dispatchDueEmails() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> dueEmails = emailOutboxRepository.lockDueEmails(EmailStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (dueEmails.isEmpty()) {
+            return;
+        }
+        log.info("Email Dispatcher: Sending {} queued emails", dueEmails.size());
+
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : dueEmails) {
+            try {
+                messages.put(buildMessage(email), email);
+            } catch (MessagingException e) {
+                // A message that cannot even be built will never succeed, so it is not retried
+                markFailed(email, e, now, true);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<MimeMessage> toSend = new ArrayList<>(messages.keySet());
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            // JavaMailSenderImpl sends all messages of one call over the same connection
+            mailSender.send(toSend.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                // Connection-level failure: nothing was sent
+                toSend.forEach(message -> markFailed(messages.get(message), e, now, false));
+                return;
+            }
+        } catch (MailException e) {
+            log.warn("Email Dispatcher: Mail server unavailable: {}", e.getMessage());
+            toSend.forEach(message -> markFailed(messages.get(message), e, now, false));
+            return;
+        }
+
+        for (MimeMessage message : toSend) {
+            EmailOutbox email = messages.get(message);
+            Exception failure = failedMessages.get(message);
+            if (failure != null) {
+                markFailed(email, failure, now, false);
+            } else {
+                email.setStatus(EmailStatus.SENT);
+                email.setAttempts(email.getAttempts() + 1);
+                email.setSentAt(now);
+                email.setLastError(null);
+            }
+        }
+    }
+
+    private MimeMessage buildMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setFrom(fromEmail);
+        helper.setText(email.getHtmlBody(), true);
+        return mimeMessage;
+    }
+
+    private void markFailed(EmailOutbox email, Exception e, LocalDateTime now, boolean permanent) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(e.getMessage()));
+        if (permanent || attempts >= maxAttempts) {
+            log.error("Email Dispatcher: Giving up on email {} to {} after {} attempts", email.getId(), email.getRecipient(), attempts, e);
+            email.setStatus(EmailStatus.FAILED);
+            return;
+        }
+        email.setNextAttemptAt(now.plus(backoff(attempts)));
+        log.warn("Email Dispatcher: Email {} to {} failed (attempt {}), retrying at {}", email.getId(), email.getRecipient(), attempts, email.getNextAttemptAt());
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -1,49 +1,46 @@
 package com.authservice.authservice.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.authservice.authservice.entity.EmailOutbox;
+import com.authservice.authservice.enums.EmailStatus;
+import com.authservice.authservice.repository.EmailOutboxRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+/**
+ * Queues emails in the email_outbox table. {@link EmailDispatcher} sends them in the background, so callers
+ * never wait on the mail server.
+ */
 @Service
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
     @Value("${app.base-url}")
     private String baseUrl;
 
-    @Value("${spring.mail.username}")
-    private String fromEmail;
-
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
     }
 
+    @Transactional
     public void sendVerificationToken(String toEmail, String username, String token){
-        try{
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage,true,"UTF-8");
-
-            helper.setTo(toEmail);
-            helper.setSubject("Activate your BookStore account");
-            helper.setFrom(fromEmail);
-
-            String activationLink = baseUrl + "/api/v1/auth/verify?token=" + token;
-            String htmlContent = buildActivationEmailHtml(username, activationLink);
-
-            helper.setText(htmlContent, true);
-
-            mailSender.send(mimeMessage);
-            log.info("Activation email sent to {}", toEmail);
-
-        } catch (MessagingException e) {
-            log.error("Failed to send activation email to {}", toEmail, e);
-            throw new RuntimeException("Failed to send activation email to ", e);
-        }
+        String activationLink = baseUrl + "/api/v1/auth/verify?token=" + token;
+        LocalDateTime now = LocalDateTime.now();
+        EmailOutbox email = EmailOutbox.builder()
+                .recipient(toEmail)
+                .subject("Activate your BookStore account")
+                .htmlBody(buildActivationEmailHtml(username, activationLink))
+                .status(EmailStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+        emailOutboxRepository.save(email);
+        log.info("Activation email to {} queued", toEmail);
     }
     private String buildActivationEmailHtml(String username, String activationLink) {
         String htmlContent = """
@@ -0,0 +1,46 @@
+package com.authservice.authservice.service;
+
+import com.authservice.authservice.entity.User;
+import com.authservice.authservice.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of users by username for endpoints that need the user entity rather than just the
+ * authenticated principal. A TTL of 0 turns caching off.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> users;
+
+    public UserPrincipalCache(UserRepository userRepository,
+                              @Value("${auth.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${auth.principal-cache.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<User> findByUsername(String username) {
+        User cached = users.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(found -> users.put(username, found));
+        return user;
+    }
+
+    public void invalidate(String username) {
+        users.invalidate(username);
+    }
+}
@@ -15,6 +15,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -27,14 +30,18 @@ public class UserService implements UserDetailsService {
     private final UserMapper userMapper;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final EmailService emailService;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper, BCryptPasswordEncoder bCryptPasswordEncoder, EmailService emailService) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, BCryptPasswordEncoder bCryptPasswordEncoder, EmailService emailService,
+                       UserPrincipalCache userPrincipalCache) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.emailService = emailService;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
+    @Transactional
     public UserResponseDTO registerUser(UserRegistrationRequestDTO userRegistrationRequestDTO) {
         log.info("User Service: UserRegistrationRequestDTO:{}", userRegistrationRequestDTO);
         userRepository.findByEmail(userRegistrationRequestDTO.email())
@@ -55,9 +62,9 @@ public class UserService implements UserDetailsService {
                 .build();
         User savedUser = userRepository.saveAndFlush(user);
 
-        // Send verification email
+        // Queued in the same transaction as the user, sent by the email dispatcher
         emailService.sendVerificationToken(savedUser.getEmail(), savedUser.getUsername(), verificationToken);
-        log.info("Verification email sent to: {}", savedUser.getEmail());
+        log.info("Verification email queued for: {}", savedUser.getEmail());
 
         return userMapper.mapToResponseDTO(savedUser);
     }
@@ -73,10 +80,12 @@ public class UserService implements UserDetailsService {
             user.setVerificationToken(null);
             user.setTokenExpirationTime(null);
             userRepository.saveAndFlush(user);
+            userPrincipalCache.invalidate(user.getUsername());
             return user.getUsername() + " has been successfully verified. You can now log in.";
         }
     }
 
+    @Transactional
     public void resendVerificationEmail(String email){
         log.info("User Service: Resend Verification Email to: {}", email);
         User user = userRepository.findByEmail(email)
@@ -91,7 +100,7 @@ public class UserService implements UserDetailsService {
         userRepository.saveAndFlush(user);
 
         emailService.sendVerificationToken(user.getEmail(), user.getUsername(), newVerificationToken);
-        log.info("Verification email resent to: {}", email);
+        log.info("Verification email re-queued for: {}", email);
     }
 
     public Page<UserResponseDTO> getAllUsers(int page, int size) {
@@ -109,15 +118,17 @@ public class UserService implements UserDetailsService {
 
     public UserResponseDTO findUserByUsername(String username) {
         log.info("User Service: Find User by username: {}", username);
-        User user = userRepository.findByUsername(username)
+        User user = userPrincipalCache.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with username: " + username));
         return userMapper.mapToResponseDTO(user);
     }
 
+    @Transactional
     public UserResponseDTO updateUser(Long id, UserUpdateRequestDTO updateRequest) {
         log.info("User Service: Update User with id: {}", id);
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
+        invalidateAfterCommit(user.getUsername());
 
         // Check if new username is already taken by another user
         if (updateRequest.username() != null && !updateRequest.username().isBlank()) {
@@ -157,6 +168,24 @@ public class UserService implements UserDetailsService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
         userRepository.delete(user);
+        userPrincipalCache.invalidate(user.getUsername());
+    }
+
+    /**
+     * Evicted only once the change has committed: evicting earlier lets a concurrent lookup cache the old row
+     * again before the update is visible, and it would stay cached for the full TTL.
+     */
+    private void invalidateAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userPrincipalCache.invalidate(username);
+                }
+            });
+        } else {
+            userPrincipalCache.invalidate(username);
+        }
     }
 
     @Override
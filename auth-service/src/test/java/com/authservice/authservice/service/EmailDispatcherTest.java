@@ -0,0 +1,154 @@
+package com.authservice.authservice.service;
+
+import com.authservice.authservice.entity.EmailOutbox;
+import com.authservice.authservice.enums.EmailStatus;
+import com.authservice.authservice.repository.EmailOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    private CountingMailSender mailSender;
+    private EmailDispatcher emailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new CountingMailSender();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        emailDispatcher = new EmailDispatcher(emailOutboxRepository, mailSender, BATCH_SIZE, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF);
+        ReflectionTestUtils.setField(emailDispatcher, "fromEmail", "noreply@books.test");
+    }
+
+    @Test
+    void sendsTheWholeBatchOverOneConnection() {
+        List<EmailOutbox> batch = IntStream.range(0, 5).mapToObj(i -> pendingEmail("reader" + i + "@books.test", 0)).toList();
+        givenDueEmails(batch);
+
+        emailDispatcher.dispatchDueEmails();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(mailSender.connections).isEqualTo(1);
+        assertThat(batch).allSatisfy(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailStatus.SENT);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getSentAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void unreachableServerReschedulesWithExponentialBackoff() throws IOException {
+        mailSender.setPort(unusedPort());
+        EmailOutbox firstTry = pendingEmail("first@books.test", 0);
+        EmailOutbox secondTry = pendingEmail("second@books.test", 1);
+        givenDueEmails(List.of(firstTry, secondTry));
+
+        LocalDateTime before = LocalDateTime.now();
+        emailDispatcher.dispatchDueEmails();
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(firstTry.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(firstTry.getAttempts()).isEqualTo(1);
+        assertThat(firstTry.getLastError()).isNotBlank();
+        assertThat(firstTry.getNextAttemptAt()).isBetween(before.plus(INITIAL_BACKOFF), after.plus(INITIAL_BACKOFF));
+        // The delay doubles with every failed attempt
+        assertThat(secondTry.getStatus()).isEqualTo(EmailStatus.PENDING);
+        assertThat(secondTry.getAttempts()).isEqualTo(2);
+        assertThat(secondTry.getNextAttemptAt()).isBetween(before.plus(INITIAL_BACKOFF.multipliedBy(2)), after.plus(INITIAL_BACKOFF.multipliedBy(2)));
+    }
+
+    @Test
+    void lastAllowedAttemptFailingMarksTheEmailFailed() throws IOException {
+        mailSender.setPort(unusedPort());
+        EmailOutbox email = pendingEmail("last@books.test", MAX_ATTEMPTS - 1);
+        givenDueEmails(List.of(email));
+
+        emailDispatcher.dispatchDueEmails();
+
+        assertThat(email.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(email.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void invalidRecipientFailsAtOnceWithoutBlockingTheBatch() {
+        EmailOutbox invalid = pendingEmail("not an address@@", 0);
+        EmailOutbox valid = pendingEmail("reader@books.test", 0);
+        givenDueEmails(List.of(invalid, valid));
+
+        emailDispatcher.dispatchDueEmails();
+
+        assertThat(invalid.getStatus()).isEqualTo(EmailStatus.FAILED);
+        assertThat(invalid.getAttempts()).isEqualTo(1);
+        assertThat(valid.getStatus()).isEqualTo(EmailStatus.SENT);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private void givenDueEmails(List<EmailOutbox> emails) {
+        when(emailOutboxRepository.lockDueEmails(eq(EmailStatus.PENDING), any(), any())).thenReturn(emails);
+    }
+
+    private static EmailOutbox pendingEmail(String recipient, int attempts) {
+        return EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("Verify your email")
+                .htmlBody("<p>Welcome</p>")
+                .status(EmailStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Counts SMTP connections so the test can tell a batch from one connection per email.
+     */
+    private static class CountingMailSender extends JavaMailSenderImpl {
+        private int connections;
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            connections++;
+            return super.connectTransport();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce_books.book_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class EnrichmentExecutorConfig {
+
+    /**
+     * Executor used to call price, inventory and category concurrently.
+     * Defaults to one virtual thread per call; set book.enrichment.executor=platform
+     * to fall back to a fixed pool of platform threads.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService enrichmentExecutor(@Value("${book.enrichment.executor:virtual}") String executorType,
+                                              @Value("${book.enrichment.pool-size:16}") int poolSize) {
+        if ("platform".equalsIgnoreCase(executorType)) {
+            return Executors.newFixedThreadPool(poolSize);
+        }
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
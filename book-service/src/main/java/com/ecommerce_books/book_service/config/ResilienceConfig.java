@@ -0,0 +1,47 @@
+package com.ecommerce_books.book_service.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.PostMapping;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ResilienceConfig {
+
+    private final ExecutorService timeLimiterExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * One circuit breaker, bulkhead and time limiter per downstream service, named after its Feign client
+     * (e.g. PRICE-SERVICE) instead of per method. Calls to the /bulk import endpoints use "<client>-BULK"
+     * so their long timeouts and low concurrency stay separate from the page reads.
+     */
+    @Bean
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> {
+            PostMapping postMapping = method.getAnnotation(PostMapping.class);
+            boolean bulk = postMapping != null && Arrays.asList(postMapping.value()).contains("/bulk");
+            return bulk ? feignClientName + "-BULK" : feignClientName;
+        };
+    }
+
+    /**
+     * The time limiter runs each call on this executor; virtual threads keep a slow service from pinning
+     * platform threads while the caller waits.
+     */
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> timeLimiterExecutorCustomizer() {
+        return factory -> factory.configureExecutorService(timeLimiterExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeLimiterExecutor.shutdown();
+    }
+}
@@ -3,13 +3,18 @@ package com.ecommerce_books.book_service.controller;
 import com.ecommerce_books.book_service.dto.BookCompleteRequestDTO;
 import com.ecommerce_books.book_service.dto.BookRequestDTO;
 import com.ecommerce_books.book_service.dto.BookResponseDTO;
+import com.ecommerce_books.book_service.dto.CursorPageDTO;
 import com.ecommerce_books.book_service.service.BookService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/books")
@@ -30,7 +35,8 @@ public class BookController {
     @GetMapping("/{id}")
     public ResponseEntity<BookResponseDTO> getBookById(@PathVariable("id") Long id) {
         log.info("Book Controller: Request to get Book by id: {}", id);
-        return new ResponseEntity<>(bookService.getBookById(id),  HttpStatus.OK);
+        BookResponseDTO bookResponseDTO = bookService.getBookById(id);
+        return okUnlessDegraded(bookResponseDTO, List.of(bookResponseDTO));
     }
 
     @GetMapping
@@ -39,7 +45,25 @@ public class BookController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Long categoryId) {
         log.info("Book Controller: Request to get all books - page: {}, size: {}, categoryId: {}", page, size, categoryId);
-        return new ResponseEntity<>(bookService.getAllBooks(page, size, categoryId), HttpStatus.OK);
+        Page<BookResponseDTO> bookPage = bookService.getAllBooks(page, size, categoryId);
+        return okUnlessDegraded(bookPage, bookPage.getContent());
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<BookResponseDTO>> scrollBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId) {
+        log.info("Book Controller: Request to scroll books - cursor: {}, size: {}, categoryId: {}", cursor, size, categoryId);
+        CursorPageDTO<BookResponseDTO> bookPage = bookService.scrollBooks(cursor, size, categoryId);
+        return okUnlessDegraded(bookPage, bookPage.content());
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportCatalog() {
+        log.info("Book Controller: Request to export the catalog");
+        StreamingResponseBody body = bookService::exportCatalog;
+        return new ResponseEntity<>(body, HttpStatus.OK);
     }
 
     @PutMapping("/{id}")
@@ -60,4 +84,25 @@ public class BookController {
         log.info("Book Controller: Request to check if book exists with id: {}", id);
         return new ResponseEntity<>(bookService.bookExists(id), HttpStatus.OK);
     }
+
+    /**
+     * Book ids in ascending order after afterId, for services that keep a local copy of which books exist.
+     */
+    @GetMapping("/ids")
+    public ResponseEntity<List<Long>> getBookIds(@RequestParam(defaultValue = "0") long afterId,
+                                                 @RequestParam(defaultValue = "5000") int size) {
+        log.info("Book Controller: Request to get book ids after id: {}, size: {}", afterId, size);
+        return new ResponseEntity<>(bookService.getBookIds(afterId, size), HttpStatus.OK);
+    }
+
+    /**
+     * Responses with a degraded book (price or stock unavailable) are marked no-store so the gateway
+     * cache does not keep serving the gap after the service recovers.
+     */
+    private static <T> ResponseEntity<T> okUnlessDegraded(T body, List<BookResponseDTO> books) {
+        if (books.stream().anyMatch(BookService::isDegraded)) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(body);
+        }
+        return new ResponseEntity<>(body, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,50 @@
+package com.ecommerce_books.book_service.controller;
+
+import com.ecommerce_books.book_service.dto.ImportJobDTO;
+import com.ecommerce_books.book_service.enums.ImportFormat;
+import com.ecommerce_books.book_service.service.BookImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * Bulk catalog import. The request body is the raw NDJSON or CSV file (CSV with a header row); the import
+ * runs in the background and its progress is polled with GET.
+ */
+@RestController
+@RequestMapping("/api/v1/books/import")
+@Slf4j
+public class BookImportController {
+    private final BookImportService bookImportService;
+
+    public BookImportController(BookImportService bookImportService) {
+        this.bookImportService = bookImportService;
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<ImportJobDTO> importNdjson(InputStream body) {
+        log.info("Book Import Controller: Request to import NDJSON");
+        return new ResponseEntity<>(bookImportService.startImport(ImportFormat.NDJSON, body), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ImportJobDTO> importCsv(InputStream body) {
+        log.info("Book Import Controller: Request to import CSV");
+        return new ResponseEntity<>(bookImportService.startImport(ImportFormat.CSV, body), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable("jobId") Long jobId) {
+        log.info("Book Import Controller: Request to get import job: {}", jobId);
+        return new ResponseEntity<>(bookImportService.getImportJob(jobId), HttpStatus.OK);
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ImportJobDTO> resumeImport(@PathVariable("jobId") Long jobId) {
+        log.info("Book Import Controller: Request to resume import job: {}", jobId);
+        return new ResponseEntity<>(bookImportService.resumeImport(jobId), HttpStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce_books.book_service.controller;
+
+import com.ecommerce_books.book_service.dto.BookSearchResultDTO;
+import com.ecommerce_books.book_service.dto.BookSuggestionDTO;
+import com.ecommerce_books.book_service.service.BookSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/books/search")
+@Slf4j
+public class BookSearchController {
+    private final BookSearchService bookSearchService;
+
+    public BookSearchController(BookSearchService bookSearchService) {
+        this.bookSearchService = bookSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<BookSearchResultDTO> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Book Search Controller: Request to search books - q: {}, categoryId: {}, page: {}, size: {}", query, categoryId, page, size);
+        return new ResponseEntity<>(bookSearchService.search(query, categoryId, page, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookSuggestionDTO>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Book Search Controller: Request for suggestions - q: {}, size: {}", prefix, size);
+        return new ResponseEntity<>(bookSearchService.suggest(prefix, size), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce_books.book_service.controller;
+
+import com.ecommerce_books.book_service.dto.CategoryResponseDTO;
+import com.ecommerce_books.book_service.dto.InventoryResponseDTO;
+import com.ecommerce_books.book_service.dto.PriceResponseDTO;
+import com.ecommerce_books.book_service.dto.ReviewCountDTO;
+import com.ecommerce_books.book_service.service.CatalogViewService;
+import com.ecommerce_books.common.events.CatalogEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal endpoints the price, inventory, category and review services call when their data changes.
+ */
+@RestController
+@RequestMapping("/api/v1/books/catalog-events")
+@Slf4j
+public class CatalogEventController {
+    private final CatalogViewService catalogViewService;
+
+    public CatalogEventController(CatalogViewService catalogViewService) {
+        this.catalogViewService = catalogViewService;
+    }
+
+    @PostMapping("/price")
+    public ResponseEntity<Void> priceChanged(@RequestBody CatalogEvent<PriceResponseDTO> priceEvent) {
+        log.info("Catalog Event Controller: Price changed: {}", priceEvent);
+        catalogViewService.applyPriceEvent(priceEvent);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/inventory")
+    public ResponseEntity<Void> inventoryChanged(@RequestBody CatalogEvent<InventoryResponseDTO> inventoryEvent) {
+        log.info("Catalog Event Controller: Inventory changed: {}", inventoryEvent);
+        catalogViewService.applyInventoryEvent(inventoryEvent);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/category")
+    public ResponseEntity<Void> categoryChanged(@RequestBody CatalogEvent<CategoryResponseDTO> categoryEvent) {
+        log.info("Catalog Event Controller: Category changed: {}", categoryEvent);
+        catalogViewService.applyCategoryEvent(categoryEvent);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/reviews")
+    public ResponseEntity<Void> reviewCountChanged(@RequestBody CatalogEvent<ReviewCountDTO> reviewCountEvent) {
+        log.info("Catalog Event Controller: Review count changed: {}", reviewCountEvent);
+        catalogViewService.applyReviewCountEvent(reviewCountEvent);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.ecommerce_books.book_service.dto;
+
+public record BookEventDTO(
+        Long bookId
+) {
+}
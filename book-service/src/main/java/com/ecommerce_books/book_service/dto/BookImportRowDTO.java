@@ -0,0 +1,47 @@
+package com.ecommerce_books.book_service.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+
+/**
+ * One record of a bulk import file. Flat so that the same shape reads from an NDJSON line or a CSV row.
+ */
+public record BookImportRowDTO(
+        @NotBlank(message = "Name is required")
+        @Size(min = 2, max = 255, message = "Name must be between 2 and 255 characters")
+        String name,
+
+        @NotBlank(message = "Description is required")
+        @Size(min = 2, max = 5000, message = "Description must be between 2 and 5000 characters")
+        String description,
+
+        @NotBlank(message = "Book cover image is required")
+        String bookCoverImage,
+
+        @NotBlank(message = "Unique product code is required")
+        String uniqueProductCode,
+
+        @NotNull(message = "Category ID is required")
+        @Positive(message = "Category ID must be positive")
+        Long categoryId,
+
+        @NotNull(message = "Price excl VAT is required")
+        @Positive(message = "Price excl VAT must be positive")
+        BigDecimal priceExclVat,
+
+        @NotNull(message = "Tax amount is required")
+        @Min(value = 0, message = "Tax amount cannot be negative")
+        BigDecimal taxAmount,
+
+        @NotBlank(message = "Currency is required")
+        String currency,
+
+        @NotNull(message = "Stock quantity is required")
+        @Min(value = 0, message = "Stock quantity cannot be negative")
+        Integer stockQuantity,
+
+        @NotNull(message = "Availability status is required")
+        Boolean availabilityStatus
+) {
+}
@@ -0,0 +1,12 @@
+package com.ecommerce_books.book_service.dto;
+
+import java.util.List;
+
+public record BookSearchResultDTO(
+        long totalHits,
+        int page,
+        int size,
+        List<BookResponseDTO> books,
+        List<CategoryFacetDTO> categories
+) {
+}
@@ -0,0 +1,12 @@
+package com.ecommerce_books.book_service.dto;
+
+/**
+ * Last line of a catalog export: complete is false when the export failed part way, count is the
+ * number of book lines before it.
+ */
+public record CatalogExportTrailerDTO(
+        boolean complete,
+        long count,
+        String error
+) {
+}
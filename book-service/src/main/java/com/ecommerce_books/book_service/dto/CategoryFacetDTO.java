@@ -0,0 +1,8 @@
+package com.ecommerce_books.book_service.dto;
+
+public record CategoryFacetDTO(
+        Long categoryId,
+        String categoryName,
+        long count
+) {
+}
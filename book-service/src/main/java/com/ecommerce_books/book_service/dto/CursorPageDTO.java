@@ -0,0 +1,9 @@
+package com.ecommerce_books.book_service.dto;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        String nextCursor
+) {
+}
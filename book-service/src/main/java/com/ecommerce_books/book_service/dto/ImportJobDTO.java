@@ -0,0 +1,20 @@
+package com.ecommerce_books.book_service.dto;
+
+import com.ecommerce_books.book_service.enums.ImportFormat;
+import com.ecommerce_books.book_service.enums.ImportStatus;
+
+import java.time.LocalDateTime;
+
+public record ImportJobDTO(
+        Long jobId,
+        ImportFormat format,
+        ImportStatus status,
+        long recordsProcessed,
+        long booksCreated,
+        long booksExisting,
+        long recordsRejected,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.ecommerce_books.book_service.dto;
+
+public record ReviewCountDTO(
+        Long bookId,
+        Integer numberOfReviews
+) {
+}
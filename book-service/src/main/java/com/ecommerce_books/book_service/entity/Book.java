@@ -10,10 +10,12 @@ import lombok.*;
 @NoArgsConstructor
 @Data
 @Builder
+@Table(indexes = @Index(name = "idx_book_category_id", columnList = "categoryId"))
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
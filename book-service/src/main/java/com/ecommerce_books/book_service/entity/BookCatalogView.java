@@ -0,0 +1,63 @@
+package com.ecommerce_books.book_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized read model of a book joined with its category, price, inventory and review count.
+ * Kept up to date by BookService writes and by change notifications from the other services.
+ */
+@Entity
+@Table(name = "book_catalog_view", indexes = {
+        @Index(name = "idx_catalog_view_category_id", columnList = "categoryId"),
+        @Index(name = "idx_catalog_view_updated_at", columnList = "updatedAt")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BookCatalogView {
+
+    @Id
+    private Long bookId;
+
+    private String name;
+
+    @Column(length = 5000)
+    private String description;
+
+    private String bookCoverImage;
+
+    private String uniqueProductCode;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private Long priceId;
+
+    private BigDecimal priceExclVat;
+
+    private BigDecimal priceInclVat;
+
+    private String currency;
+
+    private Integer stockQuantity;
+
+    private Boolean availabilityStatus;
+
+    private Integer numberOfReviews;
+
+    // Version of the last price, inventory and review count event applied to this row, see CatalogEvent
+    private Long priceVersion;
+
+    private Long inventoryVersion;
+
+    private Long reviewsVersion;
+
+    // When the book's own fields were last written, so other instances can pick the change up for their search index
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,58 @@
+package com.ecommerce_books.book_service.entity;
+
+import com.ecommerce_books.book_service.enums.ImportFormat;
+import com.ecommerce_books.book_service.enums.ImportStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one bulk import. recordsProcessed is the checkpoint: it only moves forward once a whole chunk
+ * of books, prices and inventory has been written, so a resumed job restarts at the first unfinished chunk.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "import_job", indexes = @Index(name = "idx_import_job_status", columnList = "status"))
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_job_seq")
+    @SequenceGenerator(name = "import_job_seq", sequenceName = "import_job_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportStatus status;
+
+    @Column(nullable = false, length = 1000)
+    private String filePath;
+
+    @Column(nullable = false)
+    private long recordsProcessed;
+
+    @Column(nullable = false)
+    private long booksCreated;
+
+    @Column(nullable = false)
+    private long booksExisting;
+
+    @Column(nullable = false)
+    private long recordsRejected;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
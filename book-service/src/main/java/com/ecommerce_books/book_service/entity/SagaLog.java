@@ -0,0 +1,44 @@
+package com.ecommerce_books.book_service.entity;
+
+import com.ecommerce_books.book_service.enums.SagaStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Persisted state of one saga run. A row that is neither COMPLETED nor COMPENSATED after a restart
+ * belongs to an interrupted saga and is compensated by {@link com.ecommerce_books.book_service.saga.SagaRecovery}.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "saga_log", indexes = @Index(name = "idx_saga_log_status_updated", columnList = "status, updatedAt"))
+public class SagaLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saga_log_seq")
+    @SequenceGenerator(name = "saga_log_seq", sequenceName = "saga_log_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sagaType;
+
+    @Column(nullable = false)
+    private Long subjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SagaStatus status;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
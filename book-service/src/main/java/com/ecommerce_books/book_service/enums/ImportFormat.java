@@ -0,0 +1,6 @@
+package com.ecommerce_books.book_service.enums;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,7 @@
+package com.ecommerce_books.book_service.enums;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
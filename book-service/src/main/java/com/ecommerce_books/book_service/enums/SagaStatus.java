@@ -0,0 +1,8 @@
+package com.ecommerce_books.book_service.enums;
+
+public enum SagaStatus {
+    STARTED,
+    COMPLETED,
+    COMPENSATING,
+    COMPENSATED
+}
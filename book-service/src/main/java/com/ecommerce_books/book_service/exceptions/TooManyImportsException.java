@@ -0,0 +1,11 @@
+package com.ecommerce_books.book_service.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyImportsException extends RuntimeException {
+    public TooManyImportsException(String message) {
+        super(message);
+    }
+}
@@ -5,10 +5,21 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
-@FeignClient(name = "CATEGORY-SERVICE", path = "/api/v1/category")
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "CATEGORY-SERVICE", path = "/api/v1/category", fallbackFactory = CategoryClientFallbackFactory.class)
 public interface CategoryClient {
 
     @GetMapping("/{id}")
     ResponseEntity<CategoryResponseDTO> getCategoryById(@PathVariable("id") Long id);
+
+    @GetMapping("/all")
+    ResponseEntity<List<CategoryResponseDTO>> getAllCategories();
+
+    @PostMapping("/batch")
+    ResponseEntity<Map<Long, CategoryResponseDTO>> getCategoriesByIds(@RequestBody List<Long> ids);
 }
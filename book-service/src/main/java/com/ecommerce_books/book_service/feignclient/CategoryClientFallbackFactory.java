@@ -0,0 +1,33 @@
+package com.ecommerce_books.book_service.feignclient;
+
+import com.ecommerce_books.book_service.dto.CategoryResponseDTO;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class CategoryClientFallbackFactory implements FallbackFactory<CategoryClient> {
+
+    @Override
+    public CategoryClient create(Throwable cause) {
+        return new CategoryClient() {
+            @Override
+            public ResponseEntity<CategoryResponseDTO> getCategoryById(Long id) {
+                return FeignFallbacks.degradedRead("CATEGORY-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<List<CategoryResponseDTO>> getAllCategories() {
+                return FeignFallbacks.degradedRead("CATEGORY-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<Map<Long, CategoryResponseDTO>> getCategoriesByIds(List<Long> ids) {
+                return FeignFallbacks.degradedRead("CATEGORY-SERVICE", cause);
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce_books.book_service.feignclient;
+
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Shared behaviour of the Feign fallback factories. A degraded read is an empty 503 response, so callers can
+ * tell "service unavailable" apart from "not found" and serve a book without that part. Writes never degrade:
+ * their fallbacks rethrow the original failure so sagas and imports keep their error handling.
+ */
+@Slf4j
+public final class FeignFallbacks {
+
+    private FeignFallbacks() {
+    }
+
+    /**
+     * Degrades a failed read, except a 404 which is a real answer rather than an outage.
+     */
+    public static <T> ResponseEntity<T> degradedRead(String serviceName, Throwable cause) {
+        if (cause instanceof FeignException.NotFound notFound) {
+            throw notFound;
+        }
+        log.warn("Feign Fallbacks: {} unavailable, serving degraded response: {}", serviceName, cause.toString());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    public static boolean isUnavailable(ResponseEntity<?> response) {
+        return response.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE && !response.hasBody();
+    }
+
+    public static RuntimeException propagate(Throwable cause) {
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce_books.book_service.feignclient;
 
+import com.ecommerce_books.book_service.dto.BookEventDTO;
 import com.ecommerce_books.book_service.dto.InventoryRequestDTO;
 import com.ecommerce_books.book_service.dto.InventoryResponseDTO;
 import jakarta.validation.Valid;
@@ -7,7 +8,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "INVENTORY-SERVICE", path = "/api/v1/inventory")
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "INVENTORY-SERVICE", path = "/api/v1/inventory", fallbackFactory = InventoryClientFallbackFactory.class)
 public interface InventoryClient {
     @GetMapping("/{id}")
     ResponseEntity<InventoryResponseDTO> getInventoryById(@PathVariable Long id);
@@ -15,10 +19,21 @@ public interface InventoryClient {
     @GetMapping("/book/{bookId}")
     ResponseEntity<InventoryResponseDTO> getInventoryByBookId(@PathVariable("bookId") Long bookId);
 
+    @PostMapping("/book/batch")
+    ResponseEntity<Map<Long, InventoryResponseDTO>> getInventoriesByBookIds(@RequestBody List<Long> bookIds);
+
+    @PostMapping("/bulk")
+    ResponseEntity<Map<Long, InventoryResponseDTO>> createInventories(@RequestBody List<InventoryRequestDTO> inventoryRequestDTOs);
+
     @PostMapping
     ResponseEntity<InventoryResponseDTO> saveInventory(@Valid @RequestBody InventoryRequestDTO inventoryRequestDTO);
 
     @DeleteMapping("/book/{bookId}")
     ResponseEntity<String> deleteInventoryByBookId(@PathVariable("bookId") Long bookId);
 
+    @PostMapping("/book-events/created")
+    ResponseEntity<Void> bookCreated(@RequestBody BookEventDTO bookEventDTO);
+
+    @PostMapping("/book-events/deleted")
+    ResponseEntity<Void> bookDeleted(@RequestBody BookEventDTO bookEventDTO);
 }
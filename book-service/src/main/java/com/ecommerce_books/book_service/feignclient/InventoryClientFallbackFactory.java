@@ -0,0 +1,60 @@
+package com.ecommerce_books.book_service.feignclient;
+
+import com.ecommerce_books.book_service.dto.BookEventDTO;
+import com.ecommerce_books.book_service.dto.InventoryRequestDTO;
+import com.ecommerce_books.book_service.dto.InventoryResponseDTO;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class InventoryClientFallbackFactory implements FallbackFactory<InventoryClient> {
+
+    @Override
+    public InventoryClient create(Throwable cause) {
+        return new InventoryClient() {
+            @Override
+            public ResponseEntity<InventoryResponseDTO> getInventoryById(Long id) {
+                return FeignFallbacks.degradedRead("INVENTORY-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<InventoryResponseDTO> getInventoryByBookId(Long bookId) {
+                return FeignFallbacks.degradedRead("INVENTORY-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<Map<Long, InventoryResponseDTO>> getInventoriesByBookIds(List<Long> bookIds) {
+                return FeignFallbacks.degradedRead("INVENTORY-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<Map<Long, InventoryResponseDTO>> createInventories(List<InventoryRequestDTO> inventoryRequestDTOs) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<InventoryResponseDTO> saveInventory(InventoryRequestDTO inventoryRequestDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<String> deleteInventoryByBookId(Long bookId) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<Void> bookCreated(BookEventDTO bookEventDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<Void> bookDeleted(BookEventDTO bookEventDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+        };
+    }
+}
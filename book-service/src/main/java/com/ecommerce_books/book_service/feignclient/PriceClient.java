@@ -1,5 +1,6 @@
 package com.ecommerce_books.book_service.feignclient;
 
+import com.ecommerce_books.book_service.dto.BookEventDTO;
 import com.ecommerce_books.book_service.dto.PriceRequestDTO;
 import com.ecommerce_books.book_service.dto.PriceResponseDTO;
 import jakarta.validation.Valid;
@@ -7,7 +8,10 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "PRICE-SERVICE", path = "/api/v1/price")
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "PRICE-SERVICE", path = "/api/v1/price", fallbackFactory = PriceClientFallbackFactory.class)
 public interface PriceClient {
 
     @GetMapping("/{id}")
@@ -16,9 +20,21 @@ public interface PriceClient {
     @GetMapping("/book/{bookId}")
     ResponseEntity<PriceResponseDTO> getPriceByBookId(@PathVariable("bookId") Long bookId);
 
+    @PostMapping("/book/batch")
+    ResponseEntity<Map<Long, PriceResponseDTO>> getPricesByBookIds(@RequestBody List<Long> bookIds);
+
+    @PostMapping("/bulk")
+    ResponseEntity<Map<Long, PriceResponseDTO>> createPrices(@RequestBody List<PriceRequestDTO> priceRequestDTOs);
+
     @PostMapping
     ResponseEntity<PriceResponseDTO> savePrice(@Valid @RequestBody PriceRequestDTO priceRequestDTO);
 
     @DeleteMapping("/book/{bookId}")
     ResponseEntity<String> deletePriceByBookId(@PathVariable("bookId") Long bookId);
+
+    @PostMapping("/book-events/created")
+    ResponseEntity<Void> bookCreated(@RequestBody BookEventDTO bookEventDTO);
+
+    @PostMapping("/book-events/deleted")
+    ResponseEntity<Void> bookDeleted(@RequestBody BookEventDTO bookEventDTO);
 }
@@ -0,0 +1,60 @@
+package com.ecommerce_books.book_service.feignclient;
+
+import com.ecommerce_books.book_service.dto.BookEventDTO;
+import com.ecommerce_books.book_service.dto.PriceRequestDTO;
+import com.ecommerce_books.book_service.dto.PriceResponseDTO;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class PriceClientFallbackFactory implements FallbackFactory<PriceClient> {
+
+    @Override
+    public PriceClient create(Throwable cause) {
+        return new PriceClient() {
+            @Override
+            public ResponseEntity<PriceResponseDTO> getPriceById(Long id) {
+                return FeignFallbacks.degradedRead("PRICE-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<PriceResponseDTO> getPriceByBookId(Long bookId) {
+                return FeignFallbacks.degradedRead("PRICE-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<Map<Long, PriceResponseDTO>> getPricesByBookIds(List<Long> bookIds) {
+                return FeignFallbacks.degradedRead("PRICE-SERVICE", cause);
+            }
+
+            @Override
+            public ResponseEntity<Map<Long, PriceResponseDTO>> createPrices(List<PriceRequestDTO> priceRequestDTOs) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<PriceResponseDTO> savePrice(PriceRequestDTO priceRequestDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<String> deletePriceByBookId(Long bookId) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<Void> bookCreated(BookEventDTO bookEventDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+
+            @Override
+            public ResponseEntity<Void> bookDeleted(BookEventDTO bookEventDTO) {
+                throw FeignFallbacks.propagate(cause);
+            }
+        };
+    }
+}
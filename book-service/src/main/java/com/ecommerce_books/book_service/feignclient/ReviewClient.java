@@ -0,0 +1,17 @@
+package com.ecommerce_books.book_service.feignclient;
+
+import com.ecommerce_books.book_service.dto.RatingSummaryDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Map;
+
+@FeignClient(name = "REVIEW-SERVICE", path = "/api/v1/review")
+public interface ReviewClient {
+
+    @GetMapping("/book/summary")
+    ResponseEntity<Map<Long, RatingSummaryDTO>> getRatingSummaries(@RequestParam("bookIds") List<Long> bookIds);
+}
@@ -2,6 +2,8 @@ package com.ecommerce_books.book_service.mapper;
 
 import com.ecommerce_books.book_service.dto.*;
 import com.ecommerce_books.book_service.entity.Book;
+import com.ecommerce_books.book_service.entity.BookCatalogView;
+import com.ecommerce_books.book_service.entity.ImportJob;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -18,10 +20,40 @@ public class BookMapper {
                 .build();
     }
 
+    public Book mapImportRowToBook(BookImportRowDTO bookImportRowDTO) {
+        return Book.builder()
+                .name(bookImportRowDTO.name())
+                .description(bookImportRowDTO.description())
+                .bookCoverImage(bookImportRowDTO.bookCoverImage())
+                .uniqueProductCode(bookImportRowDTO.uniqueProductCode())
+                .categoryId(bookImportRowDTO.categoryId())
+                .build();
+    }
+
+    public ImportJobDTO mapImportJobToDTO(ImportJob importJob) {
+        return new ImportJobDTO(
+                importJob.getId(),
+                importJob.getFormat(),
+                importJob.getStatus(),
+                importJob.getRecordsProcessed(),
+                importJob.getBooksCreated(),
+                importJob.getBooksExisting(),
+                importJob.getRecordsRejected(),
+                importJob.getLastError(),
+                importJob.getCreatedAt(),
+                importJob.getUpdatedAt()
+        );
+    }
+
+    /**
+     * A null price or inventory means that service is unavailable: those fields stay null so the book is shown
+     * with price and stock unavailable instead of failing.
+     */
     public BookResponseDTO mapBookToBookResponseDTO(Book book,
                                                     CategoryResponseDTO categoryResponseDTO,
                                                     PriceResponseDTO priceResponseDTO,
-                                                    InventoryResponseDTO inventoryResponseDTO) {
+                                                    InventoryResponseDTO inventoryResponseDTO,
+                                                    int numberOfReviews) {
         return new BookResponseDTO(
                 book.getId(),
                 book.getName(),
@@ -29,15 +61,52 @@ public class BookMapper {
                 book.getBookCoverImage(),
                 book.getUniqueProductCode(),
                 book.getCategoryId(),
-                categoryResponseDTO.categoryName(),
-                priceResponseDTO.id(),
-                priceResponseDTO.priceExclVat(),
-                priceResponseDTO.priceInclVat(),
-                priceResponseDTO.currency(),
-                inventoryResponseDTO.stockQuantity(),
-                inventoryResponseDTO.availabilityStatus(),
-                0
+                categoryResponseDTO != null ? categoryResponseDTO.categoryName() : null,
+                priceResponseDTO != null ? priceResponseDTO.id() : null,
+                priceResponseDTO != null ? priceResponseDTO.priceExclVat() : null,
+                priceResponseDTO != null ? priceResponseDTO.priceInclVat() : null,
+                priceResponseDTO != null ? priceResponseDTO.currency() : null,
+                inventoryResponseDTO != null ? inventoryResponseDTO.stockQuantity() : null,
+                inventoryResponseDTO != null ? inventoryResponseDTO.availabilityStatus() : null,
+                numberOfReviews
+        );
+    }
+
+    public BookCatalogView mapResponseDtoToCatalogView(BookResponseDTO bookResponseDTO) {
+        return BookCatalogView.builder()
+                .bookId(bookResponseDTO.bookId())
+                .name(bookResponseDTO.name())
+                .description(bookResponseDTO.description())
+                .bookCoverImage(bookResponseDTO.bookCoverImage())
+                .uniqueProductCode(bookResponseDTO.uniqueProductCode())
+                .categoryId(bookResponseDTO.categoryId())
+                .categoryName(bookResponseDTO.categoryName())
+                .priceId(bookResponseDTO.priceId())
+                .priceExclVat(bookResponseDTO.priceExclVat())
+                .priceInclVat(bookResponseDTO.priceIncVat())
+                .currency(bookResponseDTO.currency())
+                .stockQuantity(bookResponseDTO.stockStatus())
+                .availabilityStatus(bookResponseDTO.availabilityStatus())
+                .numberOfReviews(bookResponseDTO.numberOfReviews())
+                .build();
+    }
 
+    public BookResponseDTO mapCatalogViewToBookResponseDTO(BookCatalogView view) {
+        return new BookResponseDTO(
+                view.getBookId(),
+                view.getName(),
+                view.getDescription(),
+                view.getBookCoverImage(),
+                view.getUniqueProductCode(),
+                view.getCategoryId(),
+                view.getCategoryName(),
+                view.getPriceId(),
+                view.getPriceExclVat(),
+                view.getPriceInclVat(),
+                view.getCurrency(),
+                view.getStockQuantity(),
+                view.getAvailabilityStatus(),
+                view.getNumberOfReviews()
         );
     }
 }
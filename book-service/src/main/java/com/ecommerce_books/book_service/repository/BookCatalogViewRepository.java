@@ -0,0 +1,23 @@
+package com.ecommerce_books.book_service.repository;
+
+import com.ecommerce_books.book_service.entity.BookCatalogView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface BookCatalogViewRepository extends JpaRepository<BookCatalogView, Long> {
+    Page<BookCatalogView> findByCategoryId(Long categoryId, Pageable pageable);
+    Slice<BookCatalogView> findByBookIdGreaterThan(Long bookId, Pageable pageable);
+    Slice<BookCatalogView> findByCategoryIdAndBookIdGreaterThan(Long categoryId, Long bookId, Pageable pageable);
+    Slice<BookCatalogView> findByUpdatedAtGreaterThanEqualAndBookIdGreaterThan(LocalDateTime updatedAt, Long bookId, Pageable pageable);
+
+    @Modifying
+    @Query("update BookCatalogView v set v.categoryName = :categoryName where v.categoryId = :categoryId")
+    int updateCategoryName(@Param("categoryId") Long categoryId, @Param("categoryName") String categoryName);
+}
@@ -1,10 +1,36 @@
 package com.ecommerce_books.book_service.repository;
 
 import com.ecommerce_books.book_service.entity.Book;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
     Page<Book> findByCategoryId(Long categoryId, Pageable pageable);
+    Slice<Book> findByIdGreaterThan(Long id, Pageable pageable);
+    Slice<Book> findByCategoryIdAndIdGreaterThan(Long categoryId, Long id, Pageable pageable);
+    List<Book> findByUniqueProductCodeIn(Collection<String> uniqueProductCodes);
+
+    @Query("select b.id from Book b where b.id > :afterId order by b.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Forward-only cursor over all books. A fetch size of Integer.MIN_VALUE makes the MySQL driver stream rows
+     * instead of buffering the whole result; the connection cannot run other queries until the stream is closed.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,11 @@
+package com.ecommerce_books.book_service.repository;
+
+import com.ecommerce_books.book_service.entity.ImportJob;
+import com.ecommerce_books.book_service.enums.ImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+    List<ImportJob> findByStatus(ImportStatus status);
+}
@@ -0,0 +1,13 @@
+package com.ecommerce_books.book_service.repository;
+
+import com.ecommerce_books.book_service.entity.SagaLog;
+import com.ecommerce_books.book_service.enums.SagaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SagaLogRepository extends JpaRepository<SagaLog, Long> {
+    List<SagaLog> findByStatusInAndUpdatedAtBefore(Collection<SagaStatus> statuses, LocalDateTime updatedBefore);
+}
@@ -0,0 +1,12 @@
+package com.ecommerce_books.book_service.saga;
+
+/**
+ * Undoes every step of one saga type for a subject. Must be idempotent: it can run after a partial
+ * failure, after a crash, or more than once for the same subject.
+ */
+public interface SagaCompensator {
+
+    String sagaType();
+
+    void compensate(Long subjectId);
+}
@@ -0,0 +1,167 @@
+package com.ecommerce_books.book_service.saga;
+
+import com.ecommerce_books.book_service.entity.SagaLog;
+import com.ecommerce_books.book_service.enums.SagaStatus;
+import com.ecommerce_books.book_service.repository.SagaLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the steps of a saga in parallel and records progress in saga_log. If any step fails or times out,
+ * the whole saga is compensated; a compensation that itself fails leaves the saga COMPENSATING so that
+ * {@link SagaRecovery} retries it.
+ * <p>
+ * Interrupting a step only abandons the HTTP call on this side: the remote service may still commit the
+ * write afterwards. Compensation therefore waits for cancelled steps to settle, and when a step was
+ * cancelled mid-call the saga stays COMPENSATING after compensating, so recovery runs the idempotent
+ * compensation again once stale-after has passed and removes anything committed late.
+ */
+@Component
+@Slf4j
+public class SagaEngine {
+
+    private final SagaLogRepository sagaLogRepository;
+    private final ExecutorService enrichmentExecutor;
+    private final long callTimeoutMs;
+    private final long requestTimeoutMs;
+    private final long settleTimeoutMs;
+
+    public SagaEngine(SagaLogRepository sagaLogRepository,
+                      @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor,
+                      @Value("${book.enrichment.call-timeout-ms:2000}") long callTimeoutMs,
+                      @Value("${book.saga.request-timeout-ms:3000}") long requestTimeoutMs,
+                      @Value("${book.saga.settle-timeout-ms:2000}") long settleTimeoutMs) {
+        this.sagaLogRepository = sagaLogRepository;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.callTimeoutMs = callTimeoutMs;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.settleTimeoutMs = settleTimeoutMs;
+    }
+
+    /**
+     * Records a new saga. Call it in the same transaction as the local write that creates the subject,
+     * so a subject never exists without its saga log.
+     */
+    public SagaLog begin(String sagaType, Long subjectId) {
+        LocalDateTime now = LocalDateTime.now();
+        return sagaLogRepository.save(SagaLog.builder()
+                .sagaType(sagaType)
+                .subjectId(subjectId)
+                .status(SagaStatus.STARTED)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    public void run(SagaLog sagaLog, List<SagaStep<?>> steps, SagaCompensator compensator) {
+        // Submitted as plain Futures so cancel(true) interrupts the step's thread
+        CountDownLatch settled = new CountDownLatch(steps.size());
+        List<AtomicBoolean> started = new ArrayList<>(steps.size());
+        List<Future<?>> futures = new ArrayList<>(steps.size());
+        for (SagaStep<?> step : steps) {
+            AtomicBoolean stepStarted = new AtomicBoolean();
+            started.add(stepStarted);
+            futures.add(enrichmentExecutor.submit(() -> {
+                if (!stepStarted.compareAndSet(false, true)) {
+                    // Abandoned by fail() before it started
+                    return null;
+                }
+                try {
+                    return step.execute();
+                } finally {
+                    settled.countDown();
+                }
+            }));
+        }
+        // Steps run in parallel, so one deadline bounds every step as well as the whole saga
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.min(callTimeoutMs, requestTimeoutMs));
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(sagaLog, compensator, futures, started, settled, e);
+        } catch (ExecutionException | TimeoutException e) {
+            fail(sagaLog, compensator, futures, started, settled, e instanceof ExecutionException ? e.getCause() : e);
+        }
+        updateStatus(sagaLog, SagaStatus.COMPLETED, null);
+    }
+
+    public void compensate(SagaLog sagaLog, SagaCompensator compensator, String reason) {
+        compensate(sagaLog, compensator, reason, false);
+    }
+
+    /**
+     * @param recheck true if a step may still commit remotely, in which case the saga is left COMPENSATING
+     *                so recovery compensates it once more
+     */
+    private void compensate(SagaLog sagaLog, SagaCompensator compensator, String reason, boolean recheck) {
+        updateStatus(sagaLog, SagaStatus.COMPENSATING, reason);
+        try {
+            compensator.compensate(sagaLog.getSubjectId());
+            if (recheck) {
+                log.info("Saga Engine: {} saga {} for subject {} compensated, recovery will check it again for late writes",
+                        sagaLog.getSagaType(), sagaLog.getId(), sagaLog.getSubjectId());
+                return;
+            }
+            updateStatus(sagaLog, SagaStatus.COMPENSATED, reason);
+            log.info("Saga Engine: {} saga {} for subject {} compensated", sagaLog.getSagaType(), sagaLog.getId(), sagaLog.getSubjectId());
+        } catch (RuntimeException e) {
+            log.error("Saga Engine: Compensation of {} saga {} failed, it will be retried", sagaLog.getSagaType(), sagaLog.getId(), e);
+        }
+    }
+
+    private void fail(SagaLog sagaLog, SagaCompensator compensator, List<Future<?>> futures, List<AtomicBoolean> started,
+                      CountDownLatch settled, Throwable cause) {
+        boolean cancelledMidCall = false;
+        for (int i = 0; i < futures.size(); i++) {
+            boolean cancelled = futures.get(i).cancel(true);
+            if (started.get(i).compareAndSet(false, true)) {
+                // Never started, so it sent no request and will not count itself down
+                settled.countDown();
+            } else if (cancelled) {
+                cancelledMidCall = true;
+            }
+        }
+        log.error("Saga Engine: {} saga {} for subject {} failed", sagaLog.getSagaType(), sagaLog.getId(), sagaLog.getSubjectId(), cause);
+        if (awaitSettled(settled)) {
+            compensate(sagaLog, compensator, String.valueOf(cause), cancelledMidCall);
+        } else {
+            // Compensating now could run before a step's write; recovery compensates after stale-after instead
+            log.warn("Saga Engine: Steps of {} saga {} still running after {} ms, leaving compensation to recovery",
+                    sagaLog.getSagaType(), sagaLog.getId(), settleTimeoutMs);
+            updateStatus(sagaLog, SagaStatus.COMPENSATING, String.valueOf(cause));
+        }
+        throw new SagaFailedException(sagaLog.getSagaType() + " saga failed for subject " + sagaLog.getSubjectId(), cause);
+    }
+
+    private boolean awaitSettled(CountDownLatch settled) {
+        try {
+            return settled.await(settleTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void updateStatus(SagaLog sagaLog, SagaStatus status, String error) {
+        sagaLog.setStatus(status);
+        sagaLog.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        sagaLog.setUpdatedAt(LocalDateTime.now());
+        sagaLogRepository.save(sagaLog);
+    }
+}
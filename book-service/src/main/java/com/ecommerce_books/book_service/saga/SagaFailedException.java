@@ -0,0 +1,7 @@
+package com.ecommerce_books.book_service.saga;
+
+public class SagaFailedException extends RuntimeException {
+    public SagaFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
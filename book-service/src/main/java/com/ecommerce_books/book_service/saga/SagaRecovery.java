@@ -0,0 +1,60 @@
+package com.ecommerce_books.book_service.saga;
+
+import com.ecommerce_books.book_service.entity.SagaLog;
+import com.ecommerce_books.book_service.enums.SagaStatus;
+import com.ecommerce_books.book_service.repository.SagaLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Compensates sagas that were interrupted by a crash or whose compensation failed. Runs shortly after
+ * startup and then periodically; only sagas idle for longer than stale-after are touched, so sagas
+ * still running on another instance are left alone.
+ */
+@Component
+@Slf4j
+public class SagaRecovery {
+
+    private final SagaLogRepository sagaLogRepository;
+    private final SagaEngine sagaEngine;
+    private final Map<String, SagaCompensator> compensators;
+    private final Duration staleAfter;
+
+    public SagaRecovery(SagaLogRepository sagaLogRepository,
+                        SagaEngine sagaEngine,
+                        List<SagaCompensator> compensators,
+                        @Value("${book.saga.stale-after:30s}") Duration staleAfter) {
+        this.sagaLogRepository = sagaLogRepository;
+        this.sagaEngine = sagaEngine;
+        this.compensators = compensators.stream()
+                .collect(Collectors.toMap(SagaCompensator::sagaType, Function.identity()));
+        this.staleAfter = staleAfter;
+    }
+
+    @Scheduled(initialDelayString = "${book.saga.recovery-initial-delay:10s}", fixedDelayString = "${book.saga.recovery-interval:5m}")
+    public void recoverInterruptedSagas() {
+        List<SagaLog> interrupted = sagaLogRepository.findByStatusInAndUpdatedAtBefore(
+                List.of(SagaStatus.STARTED, SagaStatus.COMPENSATING), LocalDateTime.now().minus(staleAfter));
+        if (interrupted.isEmpty()) {
+            return;
+        }
+        log.info("Saga Recovery: Compensating {} interrupted sagas", interrupted.size());
+        for (SagaLog sagaLog : interrupted) {
+            SagaCompensator compensator = compensators.get(sagaLog.getSagaType());
+            if (compensator == null) {
+                log.warn("Saga Recovery: No compensator for saga type {}, saga {} skipped", sagaLog.getSagaType(), sagaLog.getId());
+                continue;
+            }
+            sagaEngine.compensate(sagaLog, compensator, "Recovered after interruption");
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce_books.book_service.saga;
+
+import java.util.function.Supplier;
+
+/**
+ * One forward action of a saga. Steps of a saga run in parallel; the result is available once the saga completed.
+ */
+public class SagaStep<T> {
+
+    private final String name;
+    private final Supplier<T> action;
+    private volatile T result;
+
+    public SagaStep(String name, Supplier<T> action) {
+        this.name = name;
+        this.action = action;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public T getResult() {
+        return result;
+    }
+
+    T execute() {
+        T value = action.get();
+        if (value == null) {
+            throw new IllegalStateException("Saga step " + name + " returned no result");
+        }
+        result = value;
+        return value;
+    }
+}
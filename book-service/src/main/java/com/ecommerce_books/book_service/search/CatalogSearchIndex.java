@@ -0,0 +1,246 @@
+package com.ecommerce_books.book_service.search;
+
+import com.ecommerce_books.book_service.dto.BookResponseDTO;
+import com.ecommerce_books.book_service.dto.BookSuggestionDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.LongValueFacetCounts;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory Lucene index over book name, description and unique product code. Ranking is Lucene's default BM25;
+ * the last query term is also matched as a prefix so the same query serves search-as-you-type. The index is
+ * rebuilt from the catalog view at startup, updated whenever this instance writes the view, and caught up with
+ * writes made by other instances by CatalogViewService's periodic refresh and prune.
+ */
+@Component
+@Slf4j
+public class CatalogSearchIndex {
+
+    public record SearchResult(long totalHits, List<Long> bookIds, Map<Long, Long> categoryCounts) {
+    }
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CODE = "code";
+    private static final String CATEGORY_ID = "categoryId";
+    private static final int MAX_FACETS = 50;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final NavigableSet<Long> indexedBookIds = new ConcurrentSkipListSet<>();
+
+    public CatalogSearchIndex() throws IOException {
+        this.indexWriter = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    public void index(BookResponseDTO book) {
+        indexAll(List.of(book));
+    }
+
+    public void indexAll(Collection<BookResponseDTO> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        try {
+            for (BookResponseDTO book : books) {
+                indexWriter.updateDocument(new Term(ID, book.bookId().toString()), toDocument(book));
+                indexedBookIds.add(book.bookId());
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Long bookId) {
+        deleteAll(List.of(bookId));
+    }
+
+    /**
+     * Removes the indexed books with an id in (afterBookId, upToBookId] that are not in existingBookIds, i.e. were
+     * deleted from the view by another instance. A null upToBookId means no upper bound.
+     */
+    public int deleteMissing(long afterBookId, Long upToBookId, Set<Long> existingBookIds) {
+        NavigableSet<Long> range = upToBookId != null
+                ? indexedBookIds.subSet(afterBookId, false, upToBookId, true)
+                : indexedBookIds.tailSet(afterBookId, false);
+        List<Long> missing = range.stream().filter(bookId -> !existingBookIds.contains(bookId)).toList();
+        deleteAll(missing);
+        return missing.size();
+    }
+
+    private void deleteAll(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        try {
+            for (Long bookId : bookIds) {
+                indexWriter.deleteDocuments(new Term(ID, bookId.toString()));
+                indexedBookIds.remove(bookId);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param categoryId optional filter; category counts are computed without it so every category stays selectable
+     */
+    public SearchResult search(String text, Long categoryId, int offset, int limit) {
+        Query textQuery = buildQuery(text);
+        Query query = textQuery;
+        if (categoryId != null) {
+            query = new BooleanQuery.Builder()
+                    .add(textQuery, BooleanClause.Occur.MUST)
+                    .add(LongPoint.newExactQuery(CATEGORY_ID, categoryId), BooleanClause.Occur.FILTER)
+                    .build();
+        }
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> bookIds = new ArrayList<>(limit);
+            for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                bookIds.add(Long.valueOf(storedFields.document(topDocs.scoreDocs[i].doc).get(ID)));
+            }
+            return new SearchResult(searcher.count(query), bookIds, categoryCounts(searcher, textQuery));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    public List<BookSuggestionDTO> suggest(String prefix, int limit) {
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(buildQuery(prefix), limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<BookSuggestionDTO> suggestions = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = storedFields.document(scoreDoc.doc);
+                suggestions.add(new BookSuggestionDTO(Long.valueOf(document.get(ID)), document.get(NAME)));
+            }
+            return suggestions;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    private Map<Long, Long> categoryCounts(IndexSearcher searcher, Query query) throws IOException {
+        FacetsCollector facetsCollector = searcher.search(query, new FacetsCollectorManager());
+        FacetResult facetResult = new LongValueFacetCounts(CATEGORY_ID, facetsCollector).getTopChildren(MAX_FACETS, CATEGORY_ID);
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (facetResult != null) {
+            for (LabelAndValue labelAndValue : facetResult.labelValues) {
+                counts.put(Long.valueOf(labelAndValue.label), labelAndValue.value.longValue());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Every term must match the name or the description, names weighing more; the last term may be a prefix.
+     * The whole input also matches the unique product code exactly or as a prefix.
+     */
+    private Query buildQuery(String text) {
+        List<String> terms = tokenize(text);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (!terms.isEmpty()) {
+            BooleanQuery.Builder textQuery = new BooleanQuery.Builder();
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                BooleanQuery.Builder termQuery = new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(new Term(NAME, term)), 3f), BooleanClause.Occur.SHOULD)
+                        .add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+                if (i == terms.size() - 1) {
+                    termQuery.add(new BoostQuery(new PrefixQuery(new Term(NAME, term)), 2f), BooleanClause.Occur.SHOULD)
+                            .add(new PrefixQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+                }
+                textQuery.add(termQuery.build(), BooleanClause.Occur.MUST);
+            }
+            query.add(textQuery.build(), BooleanClause.Occur.SHOULD);
+        }
+        String code = text.trim().toLowerCase(Locale.ROOT);
+        if (!code.isEmpty()) {
+            query.add(new BoostQuery(new TermQuery(new Term(CODE, code)), 10f), BooleanClause.Occur.SHOULD);
+            query.add(new PrefixQuery(new Term(CODE, code)), BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(BookResponseDTO book) {
+        Document document = new Document();
+        document.add(new StringField(ID, book.bookId().toString(), Field.Store.YES));
+        document.add(new TextField(NAME, book.name(), Field.Store.YES));
+        document.add(new TextField(DESCRIPTION, book.description(), Field.Store.NO));
+        document.add(new StringField(CODE, book.uniqueProductCode().toLowerCase(Locale.ROOT), Field.Store.NO));
+        document.add(new LongPoint(CATEGORY_ID, book.categoryId()));
+        document.add(new NumericDocValuesField(CATEGORY_ID, book.categoryId()));
+        return document;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Catalog Search Index: Failed to release searcher: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+    }
+}
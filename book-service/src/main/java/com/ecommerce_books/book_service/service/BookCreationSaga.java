@@ -0,0 +1,118 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.*;
+import com.ecommerce_books.book_service.entity.Book;
+import com.ecommerce_books.book_service.entity.SagaLog;
+import com.ecommerce_books.book_service.exceptions.BadRequestException;
+import com.ecommerce_books.book_service.feignclient.InventoryClient;
+import com.ecommerce_books.book_service.feignclient.PriceClient;
+import com.ecommerce_books.book_service.mapper.BookMapper;
+import com.ecommerce_books.book_service.repository.BookRepository;
+import com.ecommerce_books.book_service.saga.SagaCompensator;
+import com.ecommerce_books.book_service.saga.SagaEngine;
+import com.ecommerce_books.book_service.saga.SagaFailedException;
+import com.ecommerce_books.book_service.saga.SagaStep;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Creates a book together with its price and inventory. The book row and the saga log are written in one
+ * transaction, price and inventory are then created in parallel, and any failure deletes all three.
+ */
+@Component
+@Slf4j
+public class BookCreationSaga implements SagaCompensator {
+    static final String SAGA_TYPE = "BOOK_CREATION";
+
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final PriceClient priceClient;
+    private final InventoryClient inventoryClient;
+    private final CatalogViewService catalogViewService;
+    private final BookEventPublisher bookEventPublisher;
+    private final SagaEngine sagaEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService enrichmentExecutor;
+
+    public BookCreationSaga(BookRepository bookRepository, BookMapper bookMapper, PriceClient priceClient, InventoryClient inventoryClient,
+                            CatalogViewService catalogViewService, BookEventPublisher bookEventPublisher, SagaEngine sagaEngine,
+                            TransactionTemplate transactionTemplate,
+                            @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor) {
+        this.bookRepository = bookRepository;
+        this.bookMapper = bookMapper;
+        this.priceClient = priceClient;
+        this.inventoryClient = inventoryClient;
+        this.catalogViewService = catalogViewService;
+        this.bookEventPublisher = bookEventPublisher;
+        this.sagaEngine = sagaEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.enrichmentExecutor = enrichmentExecutor;
+    }
+
+    public BookResponseDTO create(Book book, CategoryResponseDTO categoryResponseDTO, BookCompleteRequestDTO bookCompleteRequestDTO) {
+        SagaLog sagaLog = transactionTemplate.execute(status -> {
+            bookRepository.saveAndFlush(book);
+            return sagaEngine.begin(SAGA_TYPE, book.getId());
+        });
+        Long bookId = book.getId();
+        bookEventPublisher.publishBookCreated(bookId);
+
+        PriceRequestDTO priceRequestDTO = new PriceRequestDTO(bookId,
+                bookCompleteRequestDTO.priceDataDTO().priceExclVat(),
+                bookCompleteRequestDTO.priceDataDTO().taxAmount(),
+                bookCompleteRequestDTO.priceDataDTO().currency());
+        InventoryRequestDTO inventoryRequestDTO = new InventoryRequestDTO(bookId,
+                bookCompleteRequestDTO.inventoryDataDTO().stockQuantity(),
+                bookCompleteRequestDTO.inventoryDataDTO().availabilityStatus());
+        SagaStep<PriceResponseDTO> priceStep = new SagaStep<>("price", () -> priceClient.savePrice(priceRequestDTO).getBody());
+        SagaStep<InventoryResponseDTO> inventoryStep = new SagaStep<>("inventory", () -> inventoryClient.saveInventory(inventoryRequestDTO).getBody());
+        try {
+            sagaEngine.run(sagaLog, List.of(priceStep, inventoryStep), this);
+        } catch (SagaFailedException e) {
+            throw new BadRequestException("Book creation failed");
+        }
+
+        BookResponseDTO bookResponseDTO = bookMapper.mapBookToBookResponseDTO(book, categoryResponseDTO, priceStep.getResult(), inventoryStep.getResult(), 0);
+        catalogViewService.upsert(bookResponseDTO);
+        return bookResponseDTO;
+    }
+
+    @Override
+    public String sagaType() {
+        return SAGA_TYPE;
+    }
+
+    /**
+     * Deletes price and inventory in parallel, then the book. Missing rows count as already compensated.
+     */
+    @Override
+    public void compensate(Long bookId) {
+        log.info("Book Creation Saga: Compensating book id: {}", bookId);
+        CompletableFuture<Void> price = CompletableFuture.runAsync(
+                () -> ignoreNotFound(() -> priceClient.deletePriceByBookId(bookId)), enrichmentExecutor);
+        CompletableFuture<Void> inventory = CompletableFuture.runAsync(
+                () -> ignoreNotFound(() -> inventoryClient.deleteInventoryByBookId(bookId)), enrichmentExecutor);
+        CompletableFuture.allOf(price, inventory).join();
+
+        if (bookRepository.existsById(bookId)) {
+            bookRepository.deleteById(bookId);
+        }
+        catalogViewService.delete(bookId);
+        bookEventPublisher.publishBookDeleted(bookId);
+    }
+
+    private static void ignoreNotFound(Runnable call) {
+        try {
+            call.run();
+        } catch (FeignException.NotFound e) {
+            // Never created or already deleted
+        }
+    }
+}
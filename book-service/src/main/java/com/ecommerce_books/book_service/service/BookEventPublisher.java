@@ -0,0 +1,50 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.BookEventDTO;
+import com.ecommerce_books.book_service.feignclient.InventoryClient;
+import com.ecommerce_books.book_service.feignclient.PriceClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Tells the price and inventory services which book ids exist, so they can validate writes locally.
+ * Runs on the enrichment executor and never fails the book write that triggered it.
+ */
+@Component
+@Slf4j
+public class BookEventPublisher {
+
+    private final PriceClient priceClient;
+    private final InventoryClient inventoryClient;
+    private final ExecutorService enrichmentExecutor;
+
+    public BookEventPublisher(PriceClient priceClient, InventoryClient inventoryClient,
+                              @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor) {
+        this.priceClient = priceClient;
+        this.inventoryClient = inventoryClient;
+        this.enrichmentExecutor = enrichmentExecutor;
+    }
+
+    public void publishBookCreated(Long bookId) {
+        BookEventDTO bookEventDTO = new BookEventDTO(bookId);
+        notify(() -> priceClient.bookCreated(bookEventDTO), "price", "created", bookId);
+        notify(() -> inventoryClient.bookCreated(bookEventDTO), "inventory", "created", bookId);
+    }
+
+    public void publishBookDeleted(Long bookId) {
+        BookEventDTO bookEventDTO = new BookEventDTO(bookId);
+        notify(() -> priceClient.bookDeleted(bookEventDTO), "price", "deleted", bookId);
+        notify(() -> inventoryClient.bookDeleted(bookEventDTO), "inventory", "deleted", bookId);
+    }
+
+    private void notify(Runnable call, String service, String event, Long bookId) {
+        CompletableFuture.runAsync(call, enrichmentExecutor).exceptionally(e -> {
+            log.warn("Failed to notify {} service that book id {} was {}: {}", service, bookId, event, e.getMessage());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,312 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.*;
+import com.ecommerce_books.book_service.entity.Book;
+import com.ecommerce_books.book_service.entity.ImportJob;
+import com.ecommerce_books.book_service.enums.ImportFormat;
+import com.ecommerce_books.book_service.enums.ImportStatus;
+import com.ecommerce_books.book_service.exceptions.BadRequestException;
+import com.ecommerce_books.book_service.exceptions.ImportJobNotFoundException;
+import com.ecommerce_books.book_service.exceptions.TooManyImportsException;
+import com.ecommerce_books.book_service.feignclient.InventoryClient;
+import com.ecommerce_books.book_service.feignclient.PriceClient;
+import com.ecommerce_books.book_service.mapper.BookMapper;
+import com.ecommerce_books.book_service.repository.BookRepository;
+import com.ecommerce_books.book_service.repository.ImportJobRepository;
+import com.ecommerce_books.book_service.util.ImportRecordReader;
+import com.ecommerce_books.book_service.util.ImportRecordReader.ImportRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk catalog import. The upload is staged to a file and imported in chunks: each chunk is validated against the
+ * category cache, inserted with batched JDBC inserts and pushed to price and inventory through their bulk endpoints.
+ * The next chunk is only read once the previous one is fully written, so a slow downstream service slows the
+ * import instead of filling memory. Every chunk is replay-safe, which makes the job resumable from its checkpoint.
+ */
+@Service
+@Slf4j
+public class BookImportService {
+
+    private final ImportJobRepository importJobRepository;
+    private final BookRepository bookRepository;
+    private final BookMapper bookMapper;
+    private final CategoryCache categoryCache;
+    private final CatalogViewService catalogViewService;
+    private final PriceClient priceClient;
+    private final InventoryClient inventoryClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService enrichmentExecutor;
+    private final Path workDir;
+    private final int chunkSize;
+    private final long remoteTimeoutMs;
+    private final Semaphore runningJobs;
+
+    public BookImportService(ImportJobRepository importJobRepository, BookRepository bookRepository,
+                             BookMapper bookMapper, CategoryCache categoryCache, CatalogViewService catalogViewService,
+                             PriceClient priceClient, InventoryClient inventoryClient, ObjectMapper objectMapper, Validator validator,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor,
+                             @Value("${book.import.work-dir:${java.io.tmpdir}/book-imports}") Path workDir,
+                             @Value("${book.import.chunk-size:500}") int chunkSize,
+                             @Value("${book.import.remote-timeout-ms:30000}") long remoteTimeoutMs,
+                             @Value("${book.import.max-concurrent-jobs:2}") int maxConcurrentJobs) {
+        this.importJobRepository = importJobRepository;
+        this.bookRepository = bookRepository;
+        this.bookMapper = bookMapper;
+        this.categoryCache = categoryCache;
+        this.catalogViewService = catalogViewService;
+        this.priceClient = priceClient;
+        this.inventoryClient = inventoryClient;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.workDir = workDir;
+        this.chunkSize = chunkSize;
+        this.remoteTimeoutMs = remoteTimeoutMs;
+        this.runningJobs = new Semaphore(maxConcurrentJobs);
+    }
+
+    public ImportJobDTO startImport(ImportFormat format, InputStream body) {
+        acquireSlot();
+        try {
+            Files.createDirectories(workDir);
+            Path file = Files.createTempFile(workDir, "import-", "." + format.name().toLowerCase());
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            LocalDateTime now = LocalDateTime.now();
+            ImportJob importJob = importJobRepository.save(ImportJob.builder()
+                    .format(format)
+                    .status(ImportStatus.RUNNING)
+                    .filePath(file.toString())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            log.info("Book Import: Job {} staged {} bytes of {}", importJob.getId(), Files.size(file), format);
+            ImportJobDTO importJobDTO = bookMapper.mapImportJobToDTO(importJob);
+            submit(importJob);
+            return importJobDTO;
+        } catch (IOException e) {
+            runningJobs.release();
+            throw new BadRequestException("Could not read import file: " + e.getMessage());
+        } catch (RuntimeException e) {
+            runningJobs.release();
+            throw e;
+        }
+    }
+
+    public ImportJobDTO getImportJob(Long jobId) {
+        return bookMapper.mapImportJobToDTO(findImportJob(jobId));
+    }
+
+    /**
+     * Restarts a failed job at its checkpoint.
+     */
+    public ImportJobDTO resumeImport(Long jobId) {
+        ImportJob importJob = findImportJob(jobId);
+        if (importJob.getStatus() != ImportStatus.FAILED) {
+            throw new BadRequestException("Only failed imports can be resumed, job " + jobId + " is " + importJob.getStatus());
+        }
+        if (!Files.exists(Path.of(importJob.getFilePath()))) {
+            throw new BadRequestException("Import file of job " + jobId + " is no longer available");
+        }
+        acquireSlot();
+        try {
+            updateStatus(importJob, ImportStatus.RUNNING, null);
+            ImportJobDTO importJobDTO = bookMapper.mapImportJobToDTO(importJob);
+            submit(importJob);
+            return importJobDTO;
+        } catch (RuntimeException e) {
+            runningJobs.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Jobs still RUNNING at startup were interrupted by a shutdown. The staged file is local to this instance,
+     * so a job whose file is here is resumed and any other is marked failed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedImports() {
+        for (ImportJob importJob : importJobRepository.findByStatus(ImportStatus.RUNNING)) {
+            if (Files.exists(Path.of(importJob.getFilePath())) && runningJobs.tryAcquire()) {
+                log.info("Book Import: Resuming interrupted job {} at record {}", importJob.getId(), importJob.getRecordsProcessed());
+                submit(importJob);
+            } else {
+                updateStatus(importJob, ImportStatus.FAILED, "Interrupted by a restart");
+            }
+        }
+    }
+
+    private void acquireSlot() {
+        if (!runningJobs.tryAcquire()) {
+            throw new TooManyImportsException("Too many imports are running, try again later");
+        }
+    }
+
+    private ImportJob findImportJob(Long jobId) {
+        return importJobRepository.findById(jobId).orElseThrow(
+                () -> new ImportJobNotFoundException("Import job with id: " + jobId + " not found"));
+    }
+
+    private void submit(ImportJob importJob) {
+        CompletableFuture.runAsync(() -> {
+            try {
+                runImport(importJob);
+            } finally {
+                runningJobs.release();
+            }
+        }, enrichmentExecutor);
+    }
+
+    private void runImport(ImportJob importJob) {
+        Path file = Path.of(importJob.getFilePath());
+        try (ImportRecordReader reader = ImportRecordReader.open(file, importJob.getFormat(), objectMapper)) {
+            reader.skip(importJob.getRecordsProcessed());
+            List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+            ImportRecord importRecord;
+            while ((importRecord = reader.next()) != null) {
+                chunk.add(importRecord);
+                if (chunk.size() == chunkSize) {
+                    importChunk(importJob, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(importJob, chunk);
+            }
+            updateStatus(importJob, ImportStatus.COMPLETED, null);
+            Files.deleteIfExists(file);
+            log.info("Book Import: Job {} completed - {} records, {} books created, {} already existed, {} rejected",
+                    importJob.getId(), importJob.getRecordsProcessed(), importJob.getBooksCreated(),
+                    importJob.getBooksExisting(), importJob.getRecordsRejected());
+        } catch (Exception e) {
+            log.error("Book Import: Job {} failed at record {}", importJob.getId(), importJob.getRecordsProcessed(), e);
+            updateStatus(importJob, ImportStatus.FAILED, String.valueOf(e));
+        }
+    }
+
+    private void importChunk(ImportJob importJob, List<ImportRecord> chunk) throws Exception {
+        Map<Long, CategoryResponseDTO> categories = categoryCache.getCategoriesByIds(chunk.stream()
+                .filter(importRecord -> importRecord.row() != null && importRecord.row().categoryId() != null)
+                .map(importRecord -> importRecord.row().categoryId())
+                .collect(Collectors.toSet()));
+
+        Map<String, BookImportRowDTO> rowsByCode = new LinkedHashMap<>();
+        int rejected = 0;
+        for (ImportRecord importRecord : chunk) {
+            String error = importRecord.error() != null ? importRecord.error() : validate(importRecord.row(), categories);
+            if (error == null && rowsByCode.putIfAbsent(importRecord.row().uniqueProductCode(), importRecord.row()) != null) {
+                error = "Duplicate unique product code " + importRecord.row().uniqueProductCode();
+            }
+            if (error != null) {
+                rejected++;
+                log.warn("Book Import: Job {} rejected record {}: {}", importJob.getId(), importRecord.recordNumber(), error);
+            }
+        }
+
+        int created = 0;
+        if (!rowsByCode.isEmpty()) {
+            created = writeChunk(rowsByCode);
+        }
+
+        importJob.setRecordsProcessed(importJob.getRecordsProcessed() + chunk.size());
+        importJob.setBooksCreated(importJob.getBooksCreated() + created);
+        importJob.setBooksExisting(importJob.getBooksExisting() + rowsByCode.size() - created);
+        importJob.setRecordsRejected(importJob.getRecordsRejected() + rejected);
+        updateStatus(importJob, ImportStatus.RUNNING, null);
+    }
+
+    private String validate(BookImportRowDTO row, Map<Long, CategoryResponseDTO> categories) {
+        Set<ConstraintViolation<BookImportRowDTO>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+        }
+        if (!categories.containsKey(row.categoryId())) {
+            return "Category with id: " + row.categoryId() + " not found";
+        }
+        return null;
+    }
+
+    /**
+     * Inserts the books that do not exist yet and creates price and inventory for all of them. Books, prices and
+     * inventory that an earlier attempt already wrote are reused, so replaying a chunk is safe.
+     *
+     * @return the number of books created
+     */
+    private int writeChunk(Map<String, BookImportRowDTO> rowsByCode) throws Exception {
+        Integer created = transactionTemplate.execute(status -> {
+            Set<String> existingCodes = bookRepository.findByUniqueProductCodeIn(rowsByCode.keySet()).stream()
+                    .map(Book::getUniqueProductCode)
+                    .collect(Collectors.toSet());
+            List<Book> newBooks = rowsByCode.values().stream()
+                    .filter(row -> !existingCodes.contains(row.uniqueProductCode()))
+                    .map(bookMapper::mapImportRowToBook)
+                    .toList();
+            bookRepository.saveAll(newBooks);
+            return newBooks.size();
+        });
+        List<Book> chunkBooks = bookRepository.findByUniqueProductCodeIn(rowsByCode.keySet());
+
+        List<PriceRequestDTO> priceRequests = new ArrayList<>(chunkBooks.size());
+        List<InventoryRequestDTO> inventoryRequests = new ArrayList<>(chunkBooks.size());
+        for (Book book : chunkBooks) {
+            BookImportRowDTO row = rowsByCode.get(book.getUniqueProductCode());
+            priceRequests.add(new PriceRequestDTO(book.getId(), row.priceExclVat(), row.taxAmount(), row.currency()));
+            inventoryRequests.add(new InventoryRequestDTO(book.getId(), row.stockQuantity(), row.availabilityStatus()));
+        }
+        CompletableFuture<Map<Long, PriceResponseDTO>> priceFuture = CompletableFuture.supplyAsync(
+                () -> priceClient.createPrices(priceRequests).getBody(), enrichmentExecutor);
+        CompletableFuture<Map<Long, InventoryResponseDTO>> inventoryFuture = CompletableFuture.supplyAsync(
+                () -> inventoryClient.createInventories(inventoryRequests).getBody(), enrichmentExecutor);
+        CompletableFuture.allOf(priceFuture, inventoryFuture).get(remoteTimeoutMs, TimeUnit.MILLISECONDS);
+        Map<Long, PriceResponseDTO> prices = priceFuture.join();
+        Map<Long, InventoryResponseDTO> inventories = inventoryFuture.join();
+
+        Set<Long> missingViews = catalogViewService.findMissingBookIds(chunkBooks.stream().map(Book::getId).toList());
+        List<BookResponseDTO> views = new ArrayList<>(missingViews.size());
+        for (Book book : chunkBooks) {
+            PriceResponseDTO priceResponseDTO = prices != null ? prices.get(book.getId()) : null;
+            InventoryResponseDTO inventoryResponseDTO = inventories != null ? inventories.get(book.getId()) : null;
+            if (priceResponseDTO == null || inventoryResponseDTO == null) {
+                throw new IllegalStateException("Price or inventory missing for book id " + book.getId());
+            }
+            if (missingViews.contains(book.getId())) {
+                views.add(bookMapper.mapBookToBookResponseDTO(book, categoryCache.getCategoryById(book.getCategoryId()),
+                        priceResponseDTO, inventoryResponseDTO, 0));
+            }
+        }
+        catalogViewService.upsertAll(views);
+        return created;
+    }
+
+    private void updateStatus(ImportJob importJob, ImportStatus status, String error) {
+        importJob.setStatus(status);
+        importJob.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        importJob.setUpdatedAt(LocalDateTime.now());
+        importJobRepository.save(importJob);
+    }
+}
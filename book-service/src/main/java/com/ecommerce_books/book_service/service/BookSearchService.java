@@ -0,0 +1,66 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.BookSearchResultDTO;
+import com.ecommerce_books.book_service.dto.BookSuggestionDTO;
+import com.ecommerce_books.book_service.dto.CategoryFacetDTO;
+import com.ecommerce_books.book_service.dto.CategoryResponseDTO;
+import com.ecommerce_books.book_service.exceptions.BadRequestException;
+import com.ecommerce_books.book_service.search.CatalogSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class BookSearchService {
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_DEPTH = 1000;
+    private static final int MAX_SUGGESTIONS = 20;
+
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final CatalogViewService catalogViewService;
+    private final CategoryCache categoryCache;
+
+    public BookSearchService(CatalogSearchIndex catalogSearchIndex, CatalogViewService catalogViewService, CategoryCache categoryCache) {
+        this.catalogSearchIndex = catalogSearchIndex;
+        this.catalogViewService = catalogViewService;
+        this.categoryCache = categoryCache;
+    }
+
+    public BookSearchResultDTO search(String query, Long categoryId, int page, int size) {
+        log.info("Book Search Service: Searching for: {} - categoryId: {}, page: {}, size: {}", query, categoryId, page, size);
+        validateQuery(query);
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SEARCH_SIZE);
+        }
+        if (page < 0 || (page + 1) * size > MAX_SEARCH_DEPTH) {
+            throw new BadRequestException("Only the first " + MAX_SEARCH_DEPTH + " results can be paged through");
+        }
+        CatalogSearchIndex.SearchResult result = catalogSearchIndex.search(query, categoryId, page * size, size);
+
+        Map<Long, CategoryResponseDTO> categories = categoryCache.getCategoriesByIds(result.categoryCounts().keySet());
+        List<CategoryFacetDTO> facets = result.categoryCounts().entrySet().stream()
+                .map(entry -> {
+                    CategoryResponseDTO category = categories.get(entry.getKey());
+                    return new CategoryFacetDTO(entry.getKey(), category != null ? category.categoryName() : null, entry.getValue());
+                })
+                .toList();
+        return new BookSearchResultDTO(result.totalHits(), page, size, catalogViewService.findAllById(result.bookIds()), facets);
+    }
+
+    public List<BookSuggestionDTO> suggest(String prefix, int size) {
+        validateQuery(prefix);
+        if (size < 1 || size > MAX_SUGGESTIONS) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return catalogSearchIndex.suggest(prefix, size);
+    }
+
+    private static void validateQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+    }
+}
@@ -5,78 +5,184 @@ import com.ecommerce_books.book_service.entity.Book;
 import com.ecommerce_books.book_service.exceptions.BadRequestException;
 import com.ecommerce_books.book_service.exceptions.BookNotFoundException;
 import com.ecommerce_books.book_service.exceptions.CategoryNotFoundException;
-import com.ecommerce_books.book_service.feignclient.CategoryClient;
+import com.ecommerce_books.book_service.exceptions.DownstreamTimeoutException;
+import com.ecommerce_books.book_service.exceptions.DownstreamUnavailableException;
+import com.ecommerce_books.book_service.feignclient.FeignFallbacks;
 import com.ecommerce_books.book_service.feignclient.InventoryClient;
 import com.ecommerce_books.book_service.feignclient.PriceClient;
 import com.ecommerce_books.book_service.mapper.BookMapper;
 import com.ecommerce_books.book_service.repository.BookRepository;
+import com.ecommerce_books.book_service.util.CursorCodec;
+import com.ecommerce_books.common.events.CatalogEventVersions;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 public class BookService {
+    private static final int CATALOG_REBUILD_BATCH_SIZE = 200;
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    // price and inventory reject batch lookups above 500 book ids
+    private static final int ENRICHMENT_BATCH_SIZE = 500;
+    private static final int EXPORT_CHUNK_SIZE = 200;
+    private static final int MAX_ID_PAGE_SIZE = 5000;
+
     private final BookMapper bookMapper;
     private final BookRepository bookRepository;
-    private final CategoryClient categoryClient;
+    private final CategoryCache categoryCache;
+    private final ReviewCountCache reviewCountCache;
+    private final CatalogViewService catalogViewService;
+    private final BookEventPublisher bookEventPublisher;
+    private final BookCreationSaga bookCreationSaga;
     private final PriceClient priceClient;
     private final InventoryClient inventoryClient;
+    private final ExecutorService enrichmentExecutor;
+    private final long requestTimeoutMs;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectWriter exportWriter;
 
-    public BookService(BookMapper bookMapper, BookRepository bookRepository, CategoryClient categoryClient, PriceClient priceClient, InventoryClient inventoryClient) {
+    public BookService(BookMapper bookMapper, BookRepository bookRepository, CategoryCache categoryCache, ReviewCountCache reviewCountCache, PriceClient priceClient, InventoryClient inventoryClient, CatalogViewService catalogViewService,
+                       BookEventPublisher bookEventPublisher, BookCreationSaga bookCreationSaga,
+                       @Qualifier("enrichmentExecutor") ExecutorService enrichmentExecutor,
+                       @Value("${book.enrichment.request-timeout-ms:1200}") long requestTimeoutMs,
+                       EntityManager entityManager, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
         this.bookMapper = bookMapper;
         this.bookRepository = bookRepository;
-        this.categoryClient = categoryClient;
+        this.categoryCache = categoryCache;
+        this.reviewCountCache = reviewCountCache;
         this.priceClient = priceClient;
         this.inventoryClient = inventoryClient;
+        this.catalogViewService = catalogViewService;
+        this.bookEventPublisher = bookEventPublisher;
+        this.bookCreationSaga = bookCreationSaga;
+        this.enrichmentExecutor = enrichmentExecutor;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.entityManager = entityManager;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.exportWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public BookResponseDTO saveBook(BookCompleteRequestDTO bookCompleteRequestDTO) {
         log.info("Book Service: Saving book started: {}", bookCompleteRequestDTO);
         Book book = bookMapper.mapRequestDtoToBook(bookCompleteRequestDTO.bookRequestDTO());
-        CategoryResponseDTO categoryResponseDTO = categoryClient.getCategoryById(bookCompleteRequestDTO.bookRequestDTO().categoryId()).getBody();
+        CategoryResponseDTO categoryResponseDTO = categoryCache.getCategoryById(bookCompleteRequestDTO.bookRequestDTO().categoryId());
         if (categoryResponseDTO == null) {
             log.error("Category with ID {} not found", bookCompleteRequestDTO.bookRequestDTO().categoryId());
             throw new CategoryNotFoundException("Category with id: " + bookCompleteRequestDTO.bookRequestDTO().categoryId() + " not found");
         }
-        Book savedBook = bookRepository.saveAndFlush(book);
-        PriceRequestDTO priceRequestDTO = new PriceRequestDTO(savedBook.getId(),
-                bookCompleteRequestDTO.priceDataDTO().priceExclVat(),
-                bookCompleteRequestDTO.priceDataDTO().taxAmount(),
-                bookCompleteRequestDTO.priceDataDTO().currency());
-        InventoryRequestDTO inventoryRequestDTO = new InventoryRequestDTO(savedBook.getId(),
-                bookCompleteRequestDTO.inventoryDataDTO().stockQuantity(),
-                bookCompleteRequestDTO.inventoryDataDTO().availabilityStatus());
-        PriceResponseDTO priceResponseDTO;
-        InventoryResponseDTO inventoryResponseDTO;
-        try {
-            priceResponseDTO = priceClient.savePrice(priceRequestDTO).getBody();
-            inventoryResponseDTO = inventoryClient.saveInventory(inventoryRequestDTO).getBody();
-            if (priceResponseDTO == null || inventoryResponseDTO == null) {
-                deleteBookById(savedBook.getId());
-                throw new BadRequestException("Bad Request Price or Inventory response is null");
-            }
-        } catch (Exception e) {
-            log.error("Failed to create price/inventory", e);
-            throw new BadRequestException("Book creation failed");
-        }
-        log.info("Book Service: Saving book finished: {}", savedBook.getId());
-        return bookMapper.mapBookToBookResponseDTO(savedBook, categoryResponseDTO, priceResponseDTO, inventoryResponseDTO);
+        BookResponseDTO bookResponseDTO = bookCreationSaga.create(book, categoryResponseDTO, bookCompleteRequestDTO);
+        log.info("Book Service: Saving book finished: {}", bookResponseDTO.bookId());
+        return bookResponseDTO;
     }
 
     public BookResponseDTO getBookById(Long id) {
         log.info("Book Service: Request to get Book by id: {}", id);
+        return catalogViewService.findById(id).orElseGet(() -> {
+            // Not in the read model yet, so build it from the source services and store it unless degraded
+            BookResponseDTO bookResponseDTO = loadBookFromSources(id);
+            if (!isDegraded(bookResponseDTO)) {
+                catalogViewService.upsert(bookResponseDTO);
+            }
+            return bookResponseDTO;
+        });
+    }
+
+    private BookResponseDTO loadBookFromSources(Long id) {
         Book book = bookRepository.findById(id).orElseThrow(
                 ()-> new BookNotFoundException("Book with id: " + id + " not found")
         );
-        PriceResponseDTO priceResponseDTO = priceClient.getPriceByBookId(book.getId()).getBody();
-        InventoryResponseDTO inventoryResponseDTO = inventoryClient.getInventoryByBookId(book.getId()).getBody();
-        CategoryResponseDTO categoryResponseDTO = categoryClient.getCategoryById(book.getCategoryId()).getBody();
-        assert categoryResponseDTO != null;
-        assert priceResponseDTO != null;
-        assert inventoryResponseDTO != null;
-        return bookMapper.mapBookToBookResponseDTO(book, categoryResponseDTO, priceResponseDTO, inventoryResponseDTO);
+        // All four are fetched concurrently; the category usually comes from the near-cache, but a miss calls CATEGORY-SERVICE
+        Future<ResponseEntity<PriceResponseDTO>> priceFuture = enrichmentExecutor.submit(() -> priceClient.getPriceByBookId(book.getId()));
+        Future<ResponseEntity<InventoryResponseDTO>> inventoryFuture = enrichmentExecutor.submit(() -> inventoryClient.getInventoryByBookId(book.getId()));
+        Future<Integer> reviewCountFuture = enrichmentExecutor.submit(() -> reviewCountCache.getReviewCount(book.getId()));
+        Future<CategoryResponseDTO> categoryFuture = enrichmentExecutor.submit(() -> categoryCache.getCategoryById(book.getCategoryId()));
+        awaitAll(id, priceFuture, inventoryFuture, reviewCountFuture, categoryFuture);
+
+        // A degraded (unavailable) price or inventory leaves those fields empty; a missing one is still an error
+        ResponseEntity<PriceResponseDTO> priceResponse = priceFuture.resultNow();
+        ResponseEntity<InventoryResponseDTO> inventoryResponse = inventoryFuture.resultNow();
+        PriceResponseDTO priceResponseDTO = priceResponse.getBody();
+        InventoryResponseDTO inventoryResponseDTO = inventoryResponse.getBody();
+        CategoryResponseDTO categoryResponseDTO = categoryFuture.resultNow();
+        if((priceResponseDTO == null && !FeignFallbacks.isUnavailable(priceResponse))
+                || (inventoryResponseDTO == null && !FeignFallbacks.isUnavailable(inventoryResponse))
+                || categoryResponseDTO == null) {
+            throw new BadRequestException("Book data inconsistency: Category or Price or Inventory not found");
+        }
+        return bookMapper.mapBookToBookResponseDTO(book, categoryResponseDTO, priceResponseDTO, inventoryResponseDTO, reviewCountFuture.resultNow());
+    }
+
+    /**
+     * Waits for every call against one shared deadline of requestTimeoutMs. The deadline sits below the
+     * per-call resilience4j time limiter so it is the one that fires. Calls still running when it passes
+     * (or when another call fails) are cancelled, which interrupts their executor thread and aborts the
+     * blocked HTTP read.
+     */
+    private void awaitAll(Long bookId, Future<?>... futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(requestTimeoutMs);
+        try {
+            for (Future<?> future : futures) {
+                future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            log.error("Timed out after {} ms enriching book with id: {}", requestTimeoutMs, bookId);
+            throw new DownstreamTimeoutException("Timed out loading details for book with id: " + bookId);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted loading details for book with id: " + bookId, e);
+        } finally {
+            cancelAll(futures);
+        }
+    }
+
+    private static void cancelAll(Future<?>... futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
     }
 
     public void deleteBookById( Long id) {
@@ -87,6 +193,9 @@ public class BookService {
         priceClient.deletePriceByBookId(id);
         inventoryClient.deleteInventoryByBookId(id);
         bookRepository.deleteById(id);
+        catalogViewService.delete(id);
+        reviewCountCache.invalidate(id);
+        bookEventPublisher.publishBookDeleted(id);
     }
 
     public boolean bookExists(Long id) {
@@ -94,6 +203,13 @@ public class BookService {
         return bookRepository.existsById(id);
     }
 
+    public List<Long> getBookIds(long afterId, int size) {
+        if (size < 1 || size > MAX_ID_PAGE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_ID_PAGE_SIZE);
+        }
+        return bookRepository.findIdsAfter(afterId, PageRequest.of(0, size));
+    }
+
     public BookResponseDTO updateBook(Long id, BookRequestDTO bookRequestDTO) {
         log.info("Book Service: Updating book with id: {} - {}", id, bookRequestDTO);
         Book existingBook = bookRepository.findById(id).orElseThrow(
@@ -105,7 +221,7 @@ public class BookService {
         existingBook.setUniqueProductCode(bookRequestDTO.uniqueProductCode());
         existingBook.setCategoryId(bookRequestDTO.categoryId());
         Book updatedBook = bookRepository.saveAndFlush(existingBook);
-        CategoryResponseDTO categoryResponseDTO = categoryClient.getCategoryById(bookRequestDTO.categoryId()).getBody();
+        CategoryResponseDTO categoryResponseDTO = categoryCache.getCategoryById(bookRequestDTO.categoryId());
         if (categoryResponseDTO == null) {
             log.error("Category with ID {} not found", bookRequestDTO.categoryId());
             throw new CategoryNotFoundException("Category with ID " + bookRequestDTO.categoryId() + " not found");
@@ -123,24 +239,255 @@ public class BookService {
             throw new BadRequestException("Book update failed");
         }
         log.info("Book Service: Book updated successfully: {}", updatedBook);
-        return bookMapper.mapBookToBookResponseDTO(updatedBook, categoryResponseDTO,  priceResponseDTO, inventoryResponseDTO );
+        BookResponseDTO bookResponseDTO = bookMapper.mapBookToBookResponseDTO(updatedBook, categoryResponseDTO,  priceResponseDTO, inventoryResponseDTO, reviewCountCache.getReviewCount(updatedBook.getId()));
+        catalogViewService.upsert(bookResponseDTO);
+        return bookResponseDTO;
     }
 
     public Page<BookResponseDTO> getAllBooks(int page, int size, Long categoryId) {
         log.info("Book Service: Getting All Books started - page: {}, size: {}, categoryId: {}", page, size, categoryId);
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page must not be negative and size must be between 1 and " + MAX_PAGE_SIZE);
+        }
         PageRequest pageRequest = PageRequest.of(page, size);
+        if (catalogViewService.isReady()) {
+            return catalogViewService.findAll(pageRequest, categoryId);
+        }
         Page<Book> bookPage = (categoryId != null)
                 ? bookRepository.findByCategoryId(categoryId, pageRequest)
                 : bookRepository.findAll(pageRequest);
+        return new PageImpl<>(enrichBooks(bookPage.getContent(), IncompleteBooks.FAIL), pageRequest, bookPage.getTotalElements());
+    }
+
+    /**
+     * Keyset pagination by book id: no OFFSET and no COUNT(*), so every page costs the same however deep it is.
+     */
+    public CursorPageDTO<BookResponseDTO> scrollBooks(String cursor, int size, Long categoryId) {
+        log.info("Book Service: Scrolling books - cursor: {}, size: {}, categoryId: {}", cursor, size, categoryId);
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+        long afterId = CursorCodec.decode(cursor);
+        Slice<BookResponseDTO> bookSlice;
+        if (catalogViewService.isReady()) {
+            bookSlice = catalogViewService.scroll(afterId, size, categoryId);
+        } else {
+            PageRequest pageRequest = PageRequest.of(0, size, Sort.by("id"));
+            Slice<Book> slice = (categoryId != null)
+                    ? bookRepository.findByCategoryIdAndIdGreaterThan(categoryId, afterId, pageRequest)
+                    : bookRepository.findByIdGreaterThan(afterId, pageRequest);
+            bookSlice = new SliceImpl<>(enrichBooks(slice.getContent(), IncompleteBooks.FAIL), pageRequest, slice.hasNext());
+        }
+        List<BookResponseDTO> content = bookSlice.getContent();
+        String nextCursor = bookSlice.hasNext() && !content.isEmpty()
+                ? CursorCodec.encode(content.get(content.size() - 1).bookId())
+                : null;
+        return new CursorPageDTO<>(content, nextCursor);
+    }
+
+    /**
+     * Adds a row to book_catalog_view for every book that does not have one yet, then switches
+     * listings over to the read model. Until this completes listings are enriched from the source services.
+     * Runs on its own virtual thread so startup and the first requests do not wait for a full catalog pass.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCatalogViewRebuild() {
+        Thread.ofVirtual().name("catalog-view-rebuild").start(this::rebuildCatalogView);
+    }
 
-        return bookPage.map(book -> {
-            PriceResponseDTO priceResponseDTO = priceClient.getPriceByBookId(book.getId()).getBody();
-            InventoryResponseDTO inventoryResponseDTO = inventoryClient.getInventoryByBookId(book.getId()).getBody();
-            CategoryResponseDTO categoryResponseDTO = categoryClient.getCategoryById(book.getCategoryId()).getBody();
-            if(priceResponseDTO == null || inventoryResponseDTO == null || categoryResponseDTO == null) {
+    private void rebuildCatalogView() {
+        log.info("Book Service: Rebuilding catalog view");
+        try {
+            int page = 0;
+            Page<Book> bookPage;
+            do {
+                bookPage = bookRepository.findAll(PageRequest.of(page++, CATALOG_REBUILD_BATCH_SIZE, Sort.by("id")));
+                Set<Long> missingIds = catalogViewService.findMissingBookIds(bookPage.getContent().stream().map(Book::getId).toList());
+                List<Book> missingBooks = bookPage.getContent().stream().filter(book -> missingIds.contains(book.getId())).toList();
+                if (!missingBooks.isEmpty()) {
+                    catalogViewService.upsertAll(enrichBooks(missingBooks, IncompleteBooks.SKIP));
+                }
+            } while (bookPage.hasNext());
+            catalogViewService.markReady();
+            log.info("Book Service: Catalog view rebuilt");
+        } catch (Exception e) {
+            log.warn("Book Service: Catalog view rebuild failed, listings stay on the source services: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-reads price, inventory and category name for every row of book_catalog_view from their sources,
+     * repairing rows whose change events were lost. Rows that applied a newer event while a batch was being
+     * read keep it, see CatalogViewService.reconcile. Review counts are not re-read: the review-count cache
+     * reports 0 when the review service is down, which must not overwrite a real count. Books deleted from the
+     * view by another instance are dropped from this instance's search index along the way.
+     */
+    @Scheduled(initialDelayString = "${book.catalog-view.reconcile-initial-delay:5m}", fixedDelayString = "${book.catalog-view.reconcile-interval:15m}")
+    public void reconcileCatalogView() {
+        if (!catalogViewService.isReady()) {
+            return;
+        }
+        log.info("Book Service: Reconciling catalog view");
+        long afterBookId = 0;
+        long reconciled = 0;
+        Slice<BookResponseDTO> viewSlice;
+        do {
+            viewSlice = catalogViewService.scroll(afterBookId, ENRICHMENT_BATCH_SIZE, null);
+            List<BookResponseDTO> views = viewSlice.getContent();
+            if (views.isEmpty()) {
+                catalogViewService.pruneSearchIndex(afterBookId, null, List.of());
+                break;
+            }
+            List<Long> bookIds = views.stream().map(BookResponseDTO::bookId).toList();
+            catalogViewService.pruneSearchIndex(afterBookId, viewSlice.hasNext() ? bookIds.get(bookIds.size() - 1) : null, bookIds);
+            // Taken before reading, so any event for a write the reads may have missed is newer
+            long version = CatalogEventVersions.next();
+            Map<Long, PriceResponseDTO> prices = fetchInBatches(bookIds, priceClient::getPricesByBookIds);
+            Map<Long, InventoryResponseDTO> inventories = fetchInBatches(bookIds, inventoryClient::getInventoriesByBookIds);
+            Map<Long, CategoryResponseDTO> categories;
+            try {
+                categories = categoryCache.getCategoriesByIds(views.stream().map(BookResponseDTO::categoryId).distinct().toList());
+            } catch (RuntimeException e) {
+                log.warn("Book Service: Category lookup failed during catalog reconciliation: {}", e.getMessage());
+                categories = Map.of();
+            }
+            catalogViewService.reconcile(bookIds, version, prices, inventories, categories);
+            afterBookId = bookIds.get(bookIds.size() - 1);
+            reconciled += bookIds.size();
+        } while (viewSlice.hasNext());
+        log.info("Book Service: Catalog view reconciled: {} books", reconciled);
+    }
+
+    /**
+     * Writes the whole catalog as NDJSON. Books come from a forward-only cursor and are enriched
+     * EXPORT_CHUNK_SIZE at a time; each chunk is flushed to the client and detached from the persistence
+     * context before the next one is read, so memory use does not grow with the catalog. Every book is
+     * written, with price or stock left empty when it is missing, and the last line is a trailer telling
+     * a complete file from one cut short by a failure.
+     */
+    public void exportCatalog(OutputStream outputStream) {
+        log.info("Book Service: Catalog export started");
+        AtomicLong exported = new AtomicLong();
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Book> books = bookRepository.streamAllByOrderByIdAsc()) {
+                    List<Book> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+                    Iterator<Book> iterator = books.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                            exported.addAndGet(writeExportChunk(chunk, outputStream));
+                            chunk.clear();
+                            entityManager.clear();
+                        }
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // The client is gone, there is nobody left to write the trailer to
+            throw e;
+        } catch (RuntimeException e) {
+            log.error("Book Service: Catalog export failed after {} books", exported.get(), e);
+            writeExportLines(List.of(new CatalogExportTrailerDTO(false, exported.get(), "Catalog export failed, retry later")), outputStream);
+            return;
+        }
+        writeExportLines(List.of(new CatalogExportTrailerDTO(true, exported.get(), null)), outputStream);
+        log.info("Book Service: Catalog export finished: {} books", exported.get());
+    }
+
+    private int writeExportChunk(List<Book> chunk, OutputStream outputStream) {
+        // Only remote calls happen here: the streaming cursor keeps the connection busy until it is closed
+        List<BookResponseDTO> bookResponseDTOs = enrichBooks(chunk, IncompleteBooks.MARK_UNAVAILABLE);
+        writeExportLines(bookResponseDTOs, outputStream);
+        return bookResponseDTOs.size();
+    }
+
+    private void writeExportLines(List<?> lines, OutputStream outputStream) {
+        try {
+            for (Object line : lines) {
+                exportWriter.writeValue(outputStream, line);
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Catalog export aborted by the client", e);
+        }
+    }
+
+    /**
+     * What enrichBooks does with a book whose price, stock or category is missing.
+     */
+    private enum IncompleteBooks {
+        // Read model: skip inconsistent books and fail rather than store degraded ones
+        SKIP,
+        // Listings: reject inconsistent books, show price or stock as unavailable while its service is down
+        FAIL,
+        // Export: keep every book, with whatever is missing left empty
+        MARK_UNAVAILABLE
+    }
+
+    private List<BookResponseDTO> enrichBooks(List<Book> books, IncompleteBooks incompleteBooks) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+        // Enrich all books with one bulk call per downstream service instead of three calls per book
+        List<Long> bookIds = books.stream().map(Book::getId).toList();
+        List<Long> categoryIds = books.stream().map(Book::getCategoryId).distinct().toList();
+        Map<Long, PriceResponseDTO> prices = fetchInBatches(bookIds, priceClient::getPricesByBookIds);
+        Map<Long, InventoryResponseDTO> inventories = fetchInBatches(bookIds, inventoryClient::getInventoriesByBookIds);
+        boolean pricesUnavailable = prices == null;
+        boolean inventoriesUnavailable = inventories == null;
+        if (incompleteBooks == IncompleteBooks.SKIP && (pricesUnavailable || inventoriesUnavailable)) {
+            throw new DownstreamUnavailableException("Price or inventory service is unavailable");
+        }
+        prices = pricesUnavailable ? Map.of() : prices;
+        inventories = inventoriesUnavailable ? Map.of() : inventories;
+        Map<Long, CategoryResponseDTO> categories = categoryCache.getCategoriesByIds(categoryIds);
+        Map<Long, Integer> reviewCounts = reviewCountCache.getReviewCounts(bookIds);
+
+        List<BookResponseDTO> bookResponseDTOs = new ArrayList<>(books.size());
+        for (Book book : books) {
+            PriceResponseDTO priceResponseDTO = prices.get(book.getId());
+            InventoryResponseDTO inventoryResponseDTO = inventories.get(book.getId());
+            CategoryResponseDTO categoryResponseDTO = categories.get(book.getCategoryId());
+            if(incompleteBooks != IncompleteBooks.MARK_UNAVAILABLE
+                    && ((priceResponseDTO == null && !pricesUnavailable)
+                    || (inventoryResponseDTO == null && !inventoriesUnavailable)
+                    || categoryResponseDTO == null)) {
+                if (incompleteBooks == IncompleteBooks.SKIP) {
+                    log.warn("Book Service: Skipping book with id: {}, Category or Price or Inventory not found", book.getId());
+                    continue;
+                }
                 throw new BadRequestException("Book data inconsistency: Category or Price or Inventory not found");
             }
-            return bookMapper.mapBookToBookResponseDTO(book, categoryResponseDTO, priceResponseDTO, inventoryResponseDTO);
-        });
+            bookResponseDTOs.add(bookMapper.mapBookToBookResponseDTO(book, categoryResponseDTO, priceResponseDTO, inventoryResponseDTO,
+                    reviewCounts.getOrDefault(book.getId(), 0)));
+        }
+        return bookResponseDTOs;
+    }
+
+    /**
+     * True when the price or stock is missing because its service was unavailable.
+     */
+    public static boolean isDegraded(BookResponseDTO bookResponseDTO) {
+        return bookResponseDTO.priceId() == null || bookResponseDTO.availabilityStatus() == null;
+    }
+
+    /**
+     * Calls a batch lookup ENRICHMENT_BATCH_SIZE ids at a time and merges the results.
+     * Returns null when the service is unavailable for any of the batches.
+     */
+    private static <T> Map<Long, T> fetchInBatches(List<Long> bookIds, Function<List<Long>, ResponseEntity<Map<Long, T>>> batchLookup) {
+        Map<Long, T> merged = new HashMap<>();
+        for (int from = 0; from < bookIds.size(); from += ENRICHMENT_BATCH_SIZE) {
+            ResponseEntity<Map<Long, T>> response = batchLookup.apply(bookIds.subList(from, Math.min(from + ENRICHMENT_BATCH_SIZE, bookIds.size())));
+            if (FeignFallbacks.isUnavailable(response)) {
+                return null;
+            }
+            if (response.getBody() != null) {
+                merged.putAll(response.getBody());
+            }
+        }
+        return merged;
     }
 }
@@ -0,0 +1,307 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.*;
+import com.ecommerce_books.book_service.entity.BookCatalogView;
+import com.ecommerce_books.book_service.mapper.BookMapper;
+import com.ecommerce_books.book_service.repository.BookCatalogViewRepository;
+import com.ecommerce_books.book_service.search.CatalogSearchIndex;
+import com.ecommerce_books.common.events.CatalogEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Maintains the book_catalog_view read model and serves catalog reads from it.
+ */
+@Service
+@Slf4j
+public class CatalogViewService {
+    private static final int SEARCH_REBUILD_BATCH_SIZE = 1000;
+
+    private final BookCatalogViewRepository catalogViewRepository;
+    private final BookMapper bookMapper;
+    private final CategoryCache categoryCache;
+    private final ReviewCountCache reviewCountCache;
+    private final CatalogSearchIndex catalogSearchIndex;
+    private final ConcurrentMap<Long, Long> categoryVersions = new ConcurrentHashMap<>();
+    private final Duration searchRefreshLag;
+    private volatile boolean ready = false;
+    // Rows updated at or after this time may not be in the search index yet; null until the first rebuild
+    private volatile LocalDateTime searchIndexedUntil;
+
+    public CatalogViewService(BookCatalogViewRepository catalogViewRepository, BookMapper bookMapper, CategoryCache categoryCache, ReviewCountCache reviewCountCache,
+                              CatalogSearchIndex catalogSearchIndex,
+                              @Value("${book.search.refresh-lag:2m}") Duration searchRefreshLag) {
+        this.catalogViewRepository = catalogViewRepository;
+        this.bookMapper = bookMapper;
+        this.categoryCache = categoryCache;
+        this.reviewCountCache = reviewCountCache;
+        this.catalogSearchIndex = catalogSearchIndex;
+        this.searchRefreshLag = searchRefreshLag;
+    }
+
+    /**
+     * True once every book has a row in the view, i.e. listings can be served from it.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    public Optional<BookResponseDTO> findById(Long bookId) {
+        return catalogViewRepository.findById(bookId).map(bookMapper::mapCatalogViewToBookResponseDTO);
+    }
+
+    public Page<BookResponseDTO> findAll(PageRequest pageRequest, Long categoryId) {
+        Page<BookCatalogView> viewPage = (categoryId != null)
+                ? catalogViewRepository.findByCategoryId(categoryId, pageRequest)
+                : catalogViewRepository.findAll(pageRequest);
+        return viewPage.map(bookMapper::mapCatalogViewToBookResponseDTO);
+    }
+
+    public Slice<BookResponseDTO> scroll(long afterBookId, int size, Long categoryId) {
+        PageRequest pageRequest = PageRequest.of(0, size, Sort.by("bookId"));
+        Slice<BookCatalogView> viewSlice = (categoryId != null)
+                ? catalogViewRepository.findByCategoryIdAndBookIdGreaterThan(categoryId, afterBookId, pageRequest)
+                : catalogViewRepository.findByBookIdGreaterThan(afterBookId, pageRequest);
+        return viewSlice.map(bookMapper::mapCatalogViewToBookResponseDTO);
+    }
+
+    public Set<Long> findMissingBookIds(Collection<Long> bookIds) {
+        Set<Long> missing = new HashSet<>(bookIds);
+        catalogViewRepository.findAllById(bookIds).forEach(view -> missing.remove(view.getBookId()));
+        return missing;
+    }
+
+    public List<BookResponseDTO> findAllById(List<Long> bookIds) {
+        Map<Long, BookResponseDTO> byId = new HashMap<>();
+        catalogViewRepository.findAllById(bookIds).forEach(view -> byId.put(view.getBookId(), bookMapper.mapCatalogViewToBookResponseDTO(view)));
+        // Keep the order of the requested ids
+        return bookIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    @Transactional
+    public void upsert(BookResponseDTO bookResponseDTO) {
+        upsertAll(List.of(bookResponseDTO));
+    }
+
+    /**
+     * Keeps the event versions already applied to existing rows, so events older than those are still dropped.
+     */
+    @Transactional
+    public void upsertAll(List<BookResponseDTO> bookResponseDTOs) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, BookCatalogView> existing = new HashMap<>();
+        catalogViewRepository.findAllById(bookResponseDTOs.stream().map(BookResponseDTO::bookId).toList())
+                .forEach(view -> existing.put(view.getBookId(), view));
+        for (BookResponseDTO bookResponseDTO : bookResponseDTOs) {
+            BookCatalogView view = bookMapper.mapResponseDtoToCatalogView(bookResponseDTO);
+            view.setUpdatedAt(now);
+            BookCatalogView previous = existing.get(bookResponseDTO.bookId());
+            if (previous != null) {
+                view.setPriceVersion(previous.getPriceVersion());
+                view.setInventoryVersion(previous.getInventoryVersion());
+                view.setReviewsVersion(previous.getReviewsVersion());
+            }
+            catalogViewRepository.save(view);
+        }
+        catalogSearchIndex.indexAll(bookResponseDTOs);
+    }
+
+    public void delete(Long bookId) {
+        if (catalogViewRepository.existsById(bookId)) {
+            catalogViewRepository.deleteById(bookId);
+        }
+        catalogSearchIndex.delete(bookId);
+    }
+
+    /**
+     * Loads every row of the view into the in-memory search index. Rows written meanwhile are indexed by
+     * upsert, and indexing the same book twice just replaces its document.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildSearchIndex() {
+        log.info("Catalog View: Rebuilding search index");
+        LocalDateTime startedAt = LocalDateTime.now();
+        long indexed = indexViews(afterBookId -> catalogViewRepository.findByBookIdGreaterThan(afterBookId, searchBatch()));
+        searchIndexedUntil = startedAt.minus(searchRefreshLag);
+        log.info("Catalog View: Search index rebuilt with {} books", indexed);
+    }
+
+    /**
+     * Indexes rows written by other instances since the previous refresh. The window reaches searchRefreshLag
+     * further back, so a row whose transaction committed after a refresh that started later than its
+     * updatedAt is still picked up by the next one.
+     */
+    @Scheduled(initialDelayString = "${book.search.refresh-interval:30s}", fixedDelayString = "${book.search.refresh-interval:30s}")
+    public void refreshSearchIndex() {
+        LocalDateTime since = searchIndexedUntil;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        long indexed = indexViews(afterBookId ->
+                catalogViewRepository.findByUpdatedAtGreaterThanEqualAndBookIdGreaterThan(since, afterBookId, searchBatch()));
+        searchIndexedUntil = startedAt.minus(searchRefreshLag);
+        log.debug("Catalog View: Search index refreshed with {} books updated since {}", indexed, since);
+    }
+
+    /**
+     * Drops books deleted by other instances from the search index: every indexed id in (afterBookId, upToBookId]
+     * that is not in bookIds. Called by the catalog reconciliation for each batch of view rows it reads.
+     */
+    public void pruneSearchIndex(long afterBookId, Long upToBookId, Collection<Long> bookIds) {
+        int pruned = catalogSearchIndex.deleteMissing(afterBookId, upToBookId, new HashSet<>(bookIds));
+        if (pruned > 0) {
+            log.info("Catalog View: Removed {} deleted books from the search index", pruned);
+        }
+    }
+
+    private long indexViews(Function<Long, Slice<BookCatalogView>> nextBatch) {
+        long afterBookId = 0;
+        long indexed = 0;
+        Slice<BookCatalogView> viewSlice;
+        do {
+            viewSlice = nextBatch.apply(afterBookId);
+            List<BookCatalogView> views = viewSlice.getContent();
+            if (views.isEmpty()) {
+                break;
+            }
+            catalogSearchIndex.indexAll(views.stream().map(bookMapper::mapCatalogViewToBookResponseDTO).toList());
+            afterBookId = views.get(views.size() - 1).getBookId();
+            indexed += views.size();
+        } while (viewSlice.hasNext());
+        return indexed;
+    }
+
+    private static PageRequest searchBatch() {
+        return PageRequest.of(0, SEARCH_REBUILD_BATCH_SIZE, Sort.by("bookId"));
+    }
+
+    @Transactional
+    public void applyPriceEvent(CatalogEvent<PriceResponseDTO> priceEvent) {
+        log.info("Catalog View: Applying price event for book id: {}", priceEvent.key());
+        catalogViewRepository.findById(priceEvent.key()).ifPresent(view -> applyPriceEvent(view, priceEvent));
+    }
+
+    @Transactional
+    public void applyInventoryEvent(CatalogEvent<InventoryResponseDTO> inventoryEvent) {
+        log.info("Catalog View: Applying inventory event for book id: {}", inventoryEvent.key());
+        catalogViewRepository.findById(inventoryEvent.key()).ifPresent(view -> applyInventoryEvent(view, inventoryEvent));
+    }
+
+    /**
+     * Category versions are kept in memory only: a category change rewrites every row of that category,
+     * so there is no single row to store the version on.
+     */
+    @Transactional
+    public void applyCategoryEvent(CatalogEvent<CategoryResponseDTO> categoryEvent) {
+        log.info("Catalog View: Applying category event for category id: {}", categoryEvent.key());
+        if (categoryVersions.merge(categoryEvent.key(), categoryEvent.version(), Math::max) != categoryEvent.version()) {
+            log.info("Catalog View: Skipping stale category event for category id: {}", categoryEvent.key());
+            return;
+        }
+        if (categoryEvent.deleted()) {
+            // New books must not be created under it; rows already in the view keep its last known name
+            categoryCache.invalidate(categoryEvent.key());
+            return;
+        }
+        CategoryResponseDTO categoryResponseDTO = categoryEvent.payload();
+        categoryCache.put(categoryResponseDTO);
+        catalogViewRepository.updateCategoryName(categoryResponseDTO.id(), categoryResponseDTO.categoryName());
+    }
+
+    @Transactional
+    public void applyReviewCountEvent(CatalogEvent<ReviewCountDTO> reviewCountEvent) {
+        log.info("Catalog View: Applying review count event for book id: {}", reviewCountEvent.key());
+        Optional<BookCatalogView> view = catalogViewRepository.findById(reviewCountEvent.key());
+        if (view.isPresent() && !reviewCountEvent.isNewerThan(view.get().getReviewsVersion())) {
+            log.info("Catalog View: Skipping stale review count event for book id: {}", reviewCountEvent.key());
+            return;
+        }
+        int numberOfReviews = reviewCountEvent.deleted() ? 0 : reviewCountEvent.payload().numberOfReviews();
+        reviewCountCache.put(reviewCountEvent.key(), numberOfReviews);
+        view.ifPresent(catalogView -> {
+            catalogView.setNumberOfReviews(numberOfReviews);
+            catalogView.setReviewsVersion(reviewCountEvent.version());
+        });
+    }
+
+    /**
+     * Overwrites the price, inventory and category name of the given rows with values just read from their
+     * source services, repairing rows whose change events were lost. version must be taken before those
+     * values were read: a row that has meanwhile applied a newer event keeps it.
+     *
+     * @param prices      price per book id, or null if the price service was unavailable; a book missing from
+     *                    the map has no price
+     * @param inventories the same for inventory
+     */
+    @Transactional
+    public void reconcile(List<Long> bookIds, long version, Map<Long, PriceResponseDTO> prices, Map<Long, InventoryResponseDTO> inventories,
+                          Map<Long, CategoryResponseDTO> categories) {
+        for (BookCatalogView view : catalogViewRepository.findAllById(bookIds)) {
+            Long bookId = view.getBookId();
+            if (prices != null) {
+                PriceResponseDTO priceResponseDTO = prices.get(bookId);
+                applyPriceEvent(view, new CatalogEvent<>(bookId, version, priceResponseDTO == null, priceResponseDTO));
+            }
+            if (inventories != null) {
+                InventoryResponseDTO inventoryResponseDTO = inventories.get(bookId);
+                applyInventoryEvent(view, new CatalogEvent<>(bookId, version, inventoryResponseDTO == null, inventoryResponseDTO));
+            }
+            CategoryResponseDTO categoryResponseDTO = categories.get(view.getCategoryId());
+            if (categoryResponseDTO != null) {
+                view.setCategoryName(categoryResponseDTO.categoryName());
+            }
+        }
+    }
+
+    private static void applyPriceEvent(BookCatalogView view, CatalogEvent<PriceResponseDTO> priceEvent) {
+        if (!priceEvent.isNewerThan(view.getPriceVersion())) {
+            log.info("Catalog View: Skipping stale price event for book id: {}", view.getBookId());
+            return;
+        }
+        PriceResponseDTO priceResponseDTO = priceEvent.payload();
+        view.setPriceId(priceEvent.deleted() ? null : priceResponseDTO.id());
+        view.setPriceExclVat(priceEvent.deleted() ? null : priceResponseDTO.priceExclVat());
+        view.setPriceInclVat(priceEvent.deleted() ? null : priceResponseDTO.priceInclVat());
+        view.setCurrency(priceEvent.deleted() ? null : priceResponseDTO.currency());
+        view.setPriceVersion(priceEvent.version());
+    }
+
+    private static void applyInventoryEvent(BookCatalogView view, CatalogEvent<InventoryResponseDTO> inventoryEvent) {
+        if (!inventoryEvent.isNewerThan(view.getInventoryVersion())) {
+            log.info("Catalog View: Skipping stale inventory event for book id: {}", view.getBookId());
+            return;
+        }
+        InventoryResponseDTO inventoryResponseDTO = inventoryEvent.payload();
+        view.setStockQuantity(inventoryEvent.deleted() ? null : inventoryResponseDTO.stockQuantity());
+        view.setAvailabilityStatus(inventoryEvent.deleted() ? null : inventoryResponseDTO.availabilityStatus());
+        view.setInventoryVersion(inventoryEvent.version());
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.CategoryResponseDTO;
+import com.ecommerce_books.book_service.exceptions.DownstreamUnavailableException;
+import com.ecommerce_books.book_service.feignclient.CategoryClient;
+import com.ecommerce_books.book_service.feignclient.FeignFallbacks;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process cache of categories. Entries are refreshed in the background once they are older than
+ * refresh-after-write and dropped after expire-after-write, so catalog reads almost never call CATEGORY-SERVICE.
+ */
+@Component
+@Slf4j
+public class CategoryCache {
+
+    private final CategoryClient categoryClient;
+    private final LoadingCache<Long, CategoryResponseDTO> categories;
+
+    public CategoryCache(CategoryClient categoryClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${book.category-cache.maximum-size:1000}") long maximumSize,
+                         @Value("${book.category-cache.expire-after-write:30m}") Duration expireAfterWrite,
+                         @Value("${book.category-cache.refresh-after-write:5m}") Duration refreshAfterWrite) {
+        this.categoryClient = categoryClient;
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build(new CategoryLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, "categories");
+    }
+
+    public CategoryResponseDTO getCategoryById(Long id) {
+        return categories.get(id);
+    }
+
+    public Map<Long, CategoryResponseDTO> getCategoriesByIds(Collection<Long> ids) {
+        return categories.getAll(ids);
+    }
+
+    public void put(CategoryResponseDTO category) {
+        categories.put(category.id(), category);
+    }
+
+    public void invalidate(Long id) {
+        categories.invalidate(id);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<CategoryResponseDTO> allCategories = categoryClient.getAllCategories().getBody();
+            if (allCategories == null) {
+                return;
+            }
+            allCategories.forEach(this::put);
+            log.info("Category cache warmed up with {} categories", allCategories.size());
+        } catch (Exception e) {
+            // Categories will be loaded lazily on first use instead
+            log.warn("Category cache warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Throws instead of loading nothing while CATEGORY-SERVICE is unavailable, so a failed refresh keeps
+     * the stale entry and a miss is not mistaken for a category that does not exist.
+     */
+    private class CategoryLoader implements CacheLoader<Long, CategoryResponseDTO> {
+
+        @Override
+        public CategoryResponseDTO load(Long id) {
+            return available(categoryClient.getCategoryById(id)).getBody();
+        }
+
+        @Override
+        public Map<Long, CategoryResponseDTO> loadAll(Set<? extends Long> ids) {
+            Map<Long, CategoryResponseDTO> loaded = available(categoryClient.getCategoriesByIds(List.copyOf(ids))).getBody();
+            return loaded != null ? loaded : Map.of();
+        }
+
+        private <T> ResponseEntity<T> available(ResponseEntity<T> response) {
+            if (FeignFallbacks.isUnavailable(response)) {
+                throw new DownstreamUnavailableException("Category service is unavailable");
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.RatingSummaryDTO;
+import com.ecommerce_books.book_service.feignclient.ReviewClient;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-process cache of review counts per book. Misses for a whole page are loaded with one bulk call to
+ * REVIEW-SERVICE, and entries are replaced whenever the review service reports a new count for a book.
+ */
+@Component
+@Slf4j
+public class ReviewCountCache {
+
+    private final LoadingCache<Long, Integer> reviewCounts;
+
+    public ReviewCountCache(ReviewClient reviewClient,
+                            MeterRegistry meterRegistry,
+                            @Value("${book.review-count-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${book.review-count-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.reviewCounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(new ReviewCountLoader(reviewClient));
+        CaffeineCacheMetrics.monitor(meterRegistry, reviewCounts, "reviewCounts");
+    }
+
+    public int getReviewCount(Long bookId) {
+        return getReviewCounts(List.of(bookId)).getOrDefault(bookId, 0);
+    }
+
+    /**
+     * Returns the review count of every requested book. If the review service cannot be reached the missing
+     * counts are reported as 0 and nothing is cached, so the next request tries again.
+     */
+    public Map<Long, Integer> getReviewCounts(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return reviewCounts.getAll(bookIds);
+        } catch (Exception e) {
+            log.warn("Review count lookup failed, returning cached counts only: {}", e.getMessage());
+            Map<Long, Integer> counts = new HashMap<>(reviewCounts.getAllPresent(bookIds));
+            bookIds.forEach(bookId -> counts.putIfAbsent(bookId, 0));
+            return counts;
+        }
+    }
+
+    public void put(Long bookId, int numberOfReviews) {
+        reviewCounts.put(bookId, numberOfReviews);
+    }
+
+    public void invalidate(Long bookId) {
+        reviewCounts.invalidate(bookId);
+    }
+
+    private record ReviewCountLoader(ReviewClient reviewClient) implements CacheLoader<Long, Integer> {
+
+        @Override
+        public Integer load(Long bookId) {
+            return loadAll(Set.of(bookId)).get(bookId);
+        }
+
+        @Override
+        public Map<Long, Integer> loadAll(Set<? extends Long> bookIds) {
+            Map<Long, RatingSummaryDTO> summaries = reviewClient.getRatingSummaries(List.copyOf(bookIds)).getBody();
+            Map<Long, Integer> counts = new HashMap<>();
+            for (Long bookId : bookIds) {
+                RatingSummaryDTO summary = summaries != null ? summaries.get(bookId) : null;
+                counts.put(bookId, summary != null ? (int) summary.reviewCount() : 0);
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce_books.book_service.util;
+
+import com.ecommerce_books.book_service.dto.BookImportRowDTO;
+import com.ecommerce_books.book_service.enums.ImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams the records of an import file one at a time, so memory use does not depend on the file size.
+ * A record that cannot be parsed is returned with an error instead of a row; reading continues with the
+ * next NDJSON line or CSV row.
+ */
+public class ImportRecordReader implements Closeable {
+
+    public record ImportRecord(long recordNumber, BookImportRowDTO row, String error) {
+    }
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final MappingIterator<BookImportRowDTO> csvRows;
+    private long recordNumber = 0;
+
+    private ImportRecordReader(BufferedReader reader, ObjectMapper objectMapper, MappingIterator<BookImportRowDTO> csvRows) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvRows = csvRows;
+    }
+
+    public static ImportRecordReader open(Path file, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        if (format == ImportFormat.NDJSON) {
+            return new ImportRecordReader(reader, objectMapper, null);
+        }
+        try {
+            MappingIterator<BookImportRowDTO> csvRows = CSV_MAPPER.readerFor(BookImportRowDTO.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValues(reader);
+            return new ImportRecordReader(reader, null, csvRows);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Skips records that an earlier run already imported.
+     */
+    public void skip(long records) throws IOException {
+        while (recordNumber < records && next() != null) {
+            // Skipped records are not parsed again by the caller
+        }
+    }
+
+    /**
+     * @return the next record, or null at the end of the file
+     */
+    public ImportRecord next() throws IOException {
+        return csvRows != null ? nextCsvRecord() : nextNdjsonRecord();
+    }
+
+    private ImportRecord nextNdjsonRecord() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        recordNumber++;
+        try {
+            return new ImportRecord(recordNumber, objectMapper.readValue(line, BookImportRowDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new ImportRecord(recordNumber, null, e.getOriginalMessage());
+        }
+    }
+
+    private ImportRecord nextCsvRecord() throws IOException {
+        if (!csvRows.hasNextValue()) {
+            return null;
+        }
+        recordNumber++;
+        try {
+            return new ImportRecord(recordNumber, csvRows.nextValue(), null);
+        } catch (JsonProcessingException e) {
+            // The iterator resyncs to the next row on the following hasNextValue()
+            return new ImportRecord(recordNumber, null, e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (csvRows != null) {
+            csvRows.close();
+        }
+        reader.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce_books.book_service.saga;
+
+import com.ecommerce_books.book_service.entity.SagaLog;
+import com.ecommerce_books.book_service.enums.SagaStatus;
+import com.ecommerce_books.book_service.repository.SagaLogRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SagaEngineTest {
+
+    private static final long SUBJECT_ID = 7L;
+    private static final long TIMEOUT_MS = 200;
+
+    @Mock
+    private SagaLogRepository sagaLogRepository;
+    @Mock
+    private SagaCompensator compensator;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private SagaEngine sagaEngine;
+    private SagaLog sagaLog;
+
+    @BeforeEach
+    void setUp() {
+        when(sagaLogRepository.save(any(SagaLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        sagaEngine = new SagaEngine(sagaLogRepository, executor, TIMEOUT_MS, TIMEOUT_MS, TIMEOUT_MS);
+        sagaLog = SagaLog.builder().id(1L).sagaType("TEST").subjectId(SUBJECT_ID).status(SagaStatus.STARTED)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void completesWhenEveryStepSucceeds() {
+        SagaStep<String> first = new SagaStep<>("first", () -> "a");
+        SagaStep<String> second = new SagaStep<>("second", () -> "b");
+
+        sagaEngine.run(sagaLog, List.of(first, second), compensator);
+
+        assertThat(sagaLog.getStatus()).isEqualTo(SagaStatus.COMPLETED);
+        assertThat(first.getResult()).isEqualTo("a");
+        verify(compensator, never()).compensate(any());
+    }
+
+    @Test
+    void failedStepIsCompensatedOnceTheOthersFinished() {
+        SagaStep<String> failing = new SagaStep<>("failing", () -> {
+            throw new IllegalStateException("rejected");
+        });
+        SagaStep<String> succeeding = new SagaStep<>("succeeding", () -> "b");
+
+        assertThrows(SagaFailedException.class, () -> sagaEngine.run(sagaLog, List.of(failing, succeeding), compensator));
+
+        verify(compensator).compensate(SUBJECT_ID);
+        assertThat(sagaLog.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+    }
+
+    @Test
+    void stepCancelledMidCallLeavesSagaForRecovery() {
+        SagaStep<String> slow = new SagaStep<>("slow", () -> {
+            sleep(10_000);
+            return "late";
+        });
+
+        assertThrows(SagaFailedException.class, () -> sagaEngine.run(sagaLog, List.of(slow), compensator));
+
+        // Compensated now, but the remote write may still land, so recovery compensates once more
+        verify(compensator).compensate(SUBJECT_ID);
+        assertThat(sagaLog.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+    }
+
+    @Test
+    void stepThatDoesNotStopIsNotCompensatedUnderIt() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        SagaStep<String> stuck = new SagaStep<>("stuck", () -> {
+            awaitIgnoringInterrupts(release);
+            return "late";
+        });
+
+        try {
+            assertThrows(SagaFailedException.class, () -> sagaEngine.run(sagaLog, List.of(stuck), compensator));
+
+            verify(compensator, never()).compensate(any());
+            assertThat(sagaLog.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        }
+    }
+
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        while (true) {
+            try {
+                if (latch.await(5, TimeUnit.SECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                // Simulates a call that does not react to interruption
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.ecommerce_books.book_service.service;
+
+import com.ecommerce_books.book_service.dto.BookResponseDTO;
+import com.ecommerce_books.book_service.dto.CategoryResponseDTO;
+import com.ecommerce_books.book_service.dto.InventoryResponseDTO;
+import com.ecommerce_books.book_service.dto.PriceResponseDTO;
+import com.ecommerce_books.book_service.entity.Book;
+import com.ecommerce_books.book_service.exceptions.DownstreamTimeoutException;
+import com.ecommerce_books.book_service.feignclient.InventoryClient;
+import com.ecommerce_books.book_service.feignclient.PriceClient;
+import com.ecommerce_books.book_service.mapper.BookMapper;
+import com.ecommerce_books.book_service.repository.BookRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookServiceEnrichmentTest {
+
+    private static final long BOOK_ID = 7L;
+    private static final long REQUEST_TIMEOUT_MS = 200;
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryCache categoryCache;
+    @Mock
+    private ReviewCountCache reviewCountCache;
+    @Mock
+    private PriceClient priceClient;
+    @Mock
+    private InventoryClient inventoryClient;
+    @Mock
+    private CatalogViewService catalogViewService;
+    @Mock
+    private BookEventPublisher bookEventPublisher;
+    @Mock
+    private BookCreationSaga bookCreationSaga;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService enrichmentExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private BookService bookService;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        bookService = new BookService(new BookMapper(), bookRepository, categoryCache, reviewCountCache, priceClient, inventoryClient,
+                catalogViewService, bookEventPublisher, bookCreationSaga, enrichmentExecutor, REQUEST_TIMEOUT_MS,
+                entityManager, transactionManager, new ObjectMapper());
+        book = Book.builder().id(BOOK_ID).name("Dune").description("Desert planet").bookCoverImage("dune.png")
+                .uniqueProductCode("DUNE-1").categoryId(3L).build();
+        lenient().when(catalogViewService.findById(BOOK_ID)).thenReturn(Optional.empty());
+        lenient().when(bookRepository.findById(BOOK_ID)).thenReturn(Optional.of(book));
+        lenient().when(categoryCache.getCategoryById(3L)).thenReturn(new CategoryResponseDTO(1L, 3L, "Science Fiction"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        enrichmentExecutor.shutdownNow();
+    }
+
+    @Test
+    void getBookByIdCombinesAllSourcesWithinTheBudget() {
+        when(priceClient.getPriceByBookId(BOOK_ID)).thenReturn(ResponseEntity.ok(price()));
+        when(inventoryClient.getInventoryByBookId(BOOK_ID)).thenReturn(ResponseEntity.ok(inventory()));
+        when(reviewCountCache.getReviewCount(BOOK_ID)).thenReturn(4);
+
+        BookResponseDTO book = bookService.getBookById(BOOK_ID);
+
+        assertThat(book.bookId()).isEqualTo(BOOK_ID);
+        assertThat(book.numberOfReviews()).isEqualTo(4);
+    }
+
+    @Test
+    void getBookByIdFailsOnceTheRequestBudgetIsSpentAndInterruptsTheSlowCall() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(priceClient.getPriceByBookId(BOOK_ID)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return ResponseEntity.ok(price());
+        });
+        when(inventoryClient.getInventoryByBookId(BOOK_ID)).thenReturn(ResponseEntity.ok(inventory()));
+        lenient().when(reviewCountCache.getReviewCount(BOOK_ID)).thenReturn(4);
+
+        long started = System.nanoTime();
+        assertThrows(DownstreamTimeoutException.class, () -> bookService.getBookById(BOOK_ID));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(REQUEST_TIMEOUT_MS * 5);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void getBookByIdFetchesTheCategoryConcurrently() {
+        // Either call alone fits the budget, one after the other they would not
+        long callMs = REQUEST_TIMEOUT_MS * 3 / 4;
+        when(categoryCache.getCategoryById(3L)).thenAnswer(invocation -> {
+            Thread.sleep(callMs);
+            return new CategoryResponseDTO(1L, 3L, "Science Fiction");
+        });
+        when(priceClient.getPriceByBookId(BOOK_ID)).thenAnswer(invocation -> {
+            Thread.sleep(callMs);
+            return ResponseEntity.ok(price());
+        });
+        when(inventoryClient.getInventoryByBookId(BOOK_ID)).thenReturn(ResponseEntity.ok(inventory()));
+        when(reviewCountCache.getReviewCount(BOOK_ID)).thenReturn(4);
+
+        BookResponseDTO book = bookService.getBookById(BOOK_ID);
+
+        assertThat(book.categoryName()).isEqualTo("Science Fiction");
+    }
+
+    @Test
+    void getBookByIdCancelsTheOtherCallsWhenOneFails() throws InterruptedException {
+        CountDownLatch inventoryStarted = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        // Fail only once the inventory call is running; a task cancelled before it starts is never interrupted
+        when(priceClient.getPriceByBookId(BOOK_ID)).thenAnswer(invocation -> {
+            inventoryStarted.await(1, TimeUnit.SECONDS);
+            throw new IllegalStateException("price down");
+        });
+        when(inventoryClient.getInventoryByBookId(BOOK_ID)).thenAnswer(invocation -> {
+            inventoryStarted.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return ResponseEntity.ok(inventory());
+        });
+        lenient().when(reviewCountCache.getReviewCount(BOOK_ID)).thenReturn(4);
+
+        assertThrows(IllegalStateException.class, () -> bookService.getBookById(BOOK_ID));
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void exportKeepsBooksWithoutPriceAndEndsWithACompleteTrailer() {
+        Book unpriced = Book.builder().id(8L).name("Emma").categoryId(3L).build();
+        when(bookRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(book, unpriced));
+        when(priceClient.getPricesByBookIds(List.of(BOOK_ID, 8L))).thenReturn(ResponseEntity.ok(Map.of(BOOK_ID, price())));
+        when(inventoryClient.getInventoriesByBookIds(List.of(BOOK_ID, 8L))).thenReturn(ResponseEntity.ok(Map.of(BOOK_ID, inventory())));
+        when(categoryCache.getCategoriesByIds(List.of(3L))).thenReturn(Map.of(3L, new CategoryResponseDTO(1L, 3L, "Science Fiction")));
+        when(reviewCountCache.getReviewCounts(List.of(BOOK_ID, 8L))).thenReturn(Map.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        bookService.exportCatalog(output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(1)).contains("\"bookId\":8").contains("\"priceId\":null");
+        assertThat(lines.get(2)).isEqualTo("{\"complete\":true,\"count\":2,\"error\":null}");
+    }
+
+    @Test
+    void exportThatFailsPartWayEndsWithAnIncompleteTrailer() {
+        when(bookRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(book));
+        when(priceClient.getPricesByBookIds(List.of(BOOK_ID))).thenThrow(new IllegalStateException("price down"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        bookService.exportCatalog(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8).lines().toList())
+                .containsExactly("{\"complete\":false,\"count\":0,\"error\":\"Catalog export failed, retry later\"}");
+    }
+
+    private static PriceResponseDTO price() {
+        return new PriceResponseDTO(11L, BOOK_ID, new BigDecimal("10.00"), new BigDecimal("12.50"), new BigDecimal("2.50"), "EUR");
+    }
+
+    private static InventoryResponseDTO inventory() {
+        return new InventoryResponseDTO(21L, BOOK_ID, 5, true);
+    }
+}
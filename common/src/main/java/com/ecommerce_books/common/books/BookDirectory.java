@@ -0,0 +1,17 @@
+package com.ecommerce_books.common.books;
+
+import java.util.List;
+
+/**
+ * Remote view of the books that exist in book-service, implemented by each service with its own Feign client.
+ * Both calls throw if book-service cannot be reached.
+ */
+public interface BookDirectory {
+
+    /**
+     * Up to size book ids greater than afterId, in ascending order.
+     */
+    List<Long> getBookIds(long afterId, int size);
+
+    boolean bookExists(Long bookId);
+}
@@ -0,0 +1,103 @@
+package com.ecommerce_books.common.books;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local replica of the book ids that exist in book-service, kept current by book created/deleted events.
+ * Writes are validated against it without an HTTP hop; only an id the replica has not seen yet is
+ * checked remotely, and remembered if book-service confirms it.
+ * <p>
+ * Book events are fire-and-forget and reach one instance only, so the replica is also rebuilt from
+ * book-service's id list at startup and every resync-interval. Deletes never trust it: refusing to delete
+ * the row of an existing book is checked against book-service directly.
+ * <p>
+ * Registered by {@link KnownBookRegistryAutoConfiguration} in every service that provides a {@link BookDirectory}.
+ */
+public class KnownBookRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(KnownBookRegistry.class);
+    private static final int RESYNC_PAGE_SIZE = 5000;
+
+    private final BookDirectory bookDirectory;
+    private final Set<Long> deletedDuringResync = ConcurrentHashMap.newKeySet();
+    private volatile Set<Long> knownBookIds = ConcurrentHashMap.newKeySet();
+
+    public KnownBookRegistry(BookDirectory bookDirectory) {
+        this.bookDirectory = bookDirectory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        resync();
+    }
+
+    /**
+     * Replaces the replica with book-service's current id list. Books created meanwhile may be missing
+     * and are then confirmed remotely on first use; books deleted meanwhile are removed before the swap.
+     */
+    @Scheduled(initialDelayString = "${known-books.resync-interval:10m}", fixedDelayString = "${known-books.resync-interval:10m}")
+    public void resync() {
+        deletedDuringResync.clear();
+        Set<Long> bookIds = ConcurrentHashMap.newKeySet();
+        long afterId = 0;
+        try {
+            List<Long> page;
+            do {
+                page = bookDirectory.getBookIds(afterId, RESYNC_PAGE_SIZE);
+                if (page == null || page.isEmpty()) {
+                    break;
+                }
+                bookIds.addAll(page);
+                afterId = page.get(page.size() - 1);
+            } while (page.size() == RESYNC_PAGE_SIZE);
+        } catch (Exception e) {
+            log.warn("Known Book Registry: Resync failed, keeping {} known book ids: {}", knownBookIds.size(), e.getMessage());
+            return;
+        }
+        bookIds.removeAll(deletedDuringResync);
+        knownBookIds = bookIds;
+        log.info("Known Book Registry: Resynced with {} book ids", bookIds.size());
+    }
+
+    public boolean bookExists(Long bookId) {
+        if (knownBookIds.contains(bookId)) {
+            return true;
+        }
+        try {
+            return bookExistsRemotely(bookId);
+        } catch (Exception e) {
+            log.error("Book with ID {} not found", bookId);
+            return false;
+        }
+    }
+
+    /**
+     * Asks book-service directly and corrects the replica with the answer. Throws if book-service cannot be reached.
+     */
+    public boolean bookExistsRemotely(Long bookId) {
+        boolean exists = bookDirectory.bookExists(bookId);
+        if (exists) {
+            knownBookIds.add(bookId);
+        } else {
+            knownBookIds.remove(bookId);
+        }
+        return exists;
+    }
+
+    public void bookCreated(Long bookId) {
+        knownBookIds.add(bookId);
+    }
+
+    public void bookDeleted(Long bookId) {
+        deletedDuringResync.add(bookId);
+        knownBookIds.remove(bookId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecommerce_books.common.books;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers a {@link KnownBookRegistry} in services that declare how to reach book-service.
+ */
+@AutoConfiguration
+@ConditionalOnBean(BookDirectory.class)
+public class KnownBookRegistryAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public KnownBookRegistry knownBookRegistry(BookDirectory bookDirectory) {
+        return new KnownBookRegistry(bookDirectory);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce_books.common.events;
+
+/**
+ * A change to data that book-service copies into its catalog read model.
+ *
+ * @param key     id of the changed record as book-service knows it: the book id, or the category id for categories
+ * @param version when the change happened, in microseconds since the epoch; strictly increasing per publishing
+ *                instance, so the receiver can drop events that arrive after a newer one
+ * @param deleted true when the record was removed, in which case payload is null
+ * @param payload the record after the change
+ */
+public record CatalogEvent<T>(Long key, long version, boolean deleted, T payload) {
+
+    public static <T> CatalogEvent<T> changed(Long key, long version, T payload) {
+        return new CatalogEvent<>(key, version, false, payload);
+    }
+
+    public static <T> CatalogEvent<T> deleted(Long key, long version) {
+        return new CatalogEvent<>(key, version, true, null);
+    }
+
+    /**
+     * True if this event is newer than the last version applied, where null means nothing was applied yet.
+     */
+    public boolean isNewerThan(Long appliedVersion) {
+        return appliedVersion == null || version > appliedVersion;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce_books.common.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Registers a {@link CatalogEventPublisher} with its own small, bounded executor so slow deliveries to
+ * book-service never compete with request threads.
+ */
+@AutoConfiguration
+public class CatalogEventAutoConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    public CatalogEventPublisher catalogEventPublisher(@Value("${catalog-events.pool-size:2}") int poolSize,
+                                                       @Value("${catalog-events.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("catalog-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return new CatalogEventPublisher(executor);
+    }
+}
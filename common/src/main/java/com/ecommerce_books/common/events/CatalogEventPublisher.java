@@ -0,0 +1,59 @@
+package com.ecommerce_books.common.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.function.Consumer;
+
+/**
+ * Notifies book-service of changes to data it copies into its catalog read model. The version is taken on
+ * the caller's thread, so events carry the order in which the writes happened even though they are sent
+ * asynchronously and may arrive out of order. Sending never fails the write that triggered it; a lost price,
+ * inventory or category event is repaired by book-service's periodic catalog reconciliation.
+ */
+public class CatalogEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogEventPublisher.class);
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public CatalogEventPublisher(ThreadPoolTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @param topic  what changed, e.g. "price", used in log messages
+     * @param key    the book id, or the category id for categories
+     * @param sender the Feign call to book-service's catalog event endpoint for this topic
+     */
+    public <T> void publishChanged(String topic, Long key, T payload, Consumer<CatalogEvent<T>> sender) {
+        send(topic, CatalogEvent.changed(key, CatalogEventVersions.next(), payload), sender);
+    }
+
+    public <T> void publishDeleted(String topic, Long key, Consumer<CatalogEvent<T>> sender) {
+        send(topic, CatalogEvent.deleted(key, CatalogEventVersions.next()), sender);
+    }
+
+    private <T> void send(String topic, CatalogEvent<T> event, Consumer<CatalogEvent<T>> sender) {
+        try {
+            executor.execute(() -> {
+                try {
+                    sender.accept(event);
+                } catch (Exception e) {
+                    log.warn("Failed to notify book service of {} event for id {}: {}", topic, event.key(), e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Dropped {} event for id {}, the catalog event queue is full", topic, event.key());
+        }
+    }
+
+    /**
+     * Stops accepting events and waits for the queued ones to be sent.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
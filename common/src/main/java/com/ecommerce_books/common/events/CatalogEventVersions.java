@@ -0,0 +1,21 @@
+package com.ecommerce_books.common.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of {@link CatalogEvent} versions: the wall clock in microseconds, bumped by one when it has not
+ * moved since the last call so two changes in the same instant still get distinct, ordered versions.
+ */
+public final class CatalogEventVersions {
+
+    private static final AtomicLong last = new AtomicLong();
+
+    private CatalogEventVersions() {
+    }
+
+    public static long next() {
+        long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        return last.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce_books.common.ids;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Aligns the pooled id sequences of a JPA service at startup. Taking the EntityManagerFactory makes this run
+ * after Hibernate has updated the schema and, being a singleton created with the context, before anything
+ * is inserted.
+ */
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+@ConditionalOnClass({EntityManagerFactory.class, JdbcTemplate.class})
+@ConditionalOnBean({EntityManagerFactory.class, JdbcTemplate.class})
+public class IdSequenceAutoConfiguration {
+
+    @Bean(initMethod = "alignSequences")
+    @ConditionalOnMissingBean
+    public IdSequenceInitializer idSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        return new IdSequenceInitializer(jdbcTemplate, entityManagerFactory);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce_books.common.ids;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.TableStructure;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Ids come from pooled sequences, which MySQL emulates with a one-row table per sequence. Rows written before
+ * an entity switched from IDENTITY got their ids from AUTO_INCREMENT, so at startup every sequence table is
+ * moved past the highest existing id of its entity. The sequences and their allocation sizes are read from
+ * Hibernate's mapping, so new sequence-mapped entities are covered without registering them anywhere.
+ */
+public class IdSequenceInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public void alignSequences() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && generator.getDatabaseStructure() instanceof TableStructure sequenceTable
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                align(entityPersister.getRootTableName(), entityPersister.getIdentifierColumnNames()[0],
+                        sequenceTable.getPhysicalName().render(), sequenceTable.getIncrementSize());
+            }
+        });
+    }
+
+    /**
+     * The pooled optimizer hands out ids (next_val - allocationSize, next_val], so next_val must be at least
+     * max(id) + allocationSize. GREATEST keeps this a no-op once the sequence is ahead.
+     */
+    private void align(String table, String idColumn, String sequenceTable, int allocationSize) {
+        int updated = jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = GREATEST(next_val, " +
+                "(SELECT COALESCE(MAX(" + idColumn + "), 0) + " + allocationSize + " FROM " + table + "))");
+        log.info("Id sequence {} aligned with table {} ({} row updated)", sequenceTable, table, updated);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce_books.common.ids;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on MySQL that sequences emulated as tables are moved past ids AUTO_INCREMENT assigned before an entity
+ * switched to pooled ids. Needs Docker. The bulk insert paths are measured per service, e.g. BookSaveAllBenchmarkTest.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IdSequenceInitializerTest {
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = new MetadataSources(new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, mysql.getJdbcUrl())
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, mysql.getUsername())
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, mysql.getPassword())
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build())
+                .addAnnotatedClass(PooledRow.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Test
+    void sequencesAreMovedPastIdsAssignedBeforeTheSwitch() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+        jdbcTemplate.update("INSERT INTO pooled_row (id, payload) VALUES (1000, 'written with AUTO_INCREMENT')");
+
+        new IdSequenceInitializer(jdbcTemplate, sessionFactory).alignSequences();
+        PooledRow row = new PooledRow("written with a pooled id");
+        sessionFactory.inTransaction(session -> session.persist(row));
+
+        assertThat(row.id).isGreaterThan(1000L);
+    }
+
+    @Entity
+    @Table(name = "pooled_row")
+    static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_row_seq")
+        @SequenceGenerator(name = "pooled_row_seq", sequenceName = "pooled_row_seq", allocationSize = 50)
+        Long id;
+        String payload;
+
+        PooledRow() {
+        }
+
+        PooledRow(String payload) {
+            this.payload = payload;
+        }
+    }
+}
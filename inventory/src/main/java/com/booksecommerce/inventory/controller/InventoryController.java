@@ -2,7 +2,11 @@ package com.booksecommerce.inventory.controller;
 
 import com.booksecommerce.inventory.dto.InventoryRequestDTO;
 import com.booksecommerce.inventory.dto.InventoryResponseDTO;
+import com.booksecommerce.inventory.dto.ReservationRequestDTO;
+import com.booksecommerce.inventory.dto.ReservationResponseDTO;
+import com.booksecommerce.inventory.dto.StockAdjustmentRequestDTO;
 import com.booksecommerce.inventory.service.InventoryService;
+import com.booksecommerce.inventory.service.ReservationService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -10,15 +14,22 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/inventory")
 @Slf4j
 public class InventoryController {
-    
+    // Set by the API gateway from the verified JWT; reservations belong to the user who created them
+    private static final String USER_ID_HEADER = "X-User-Id";
+
     private final InventoryService inventoryService;
+    private final ReservationService reservationService;
 
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(InventoryService inventoryService, ReservationService reservationService) {
         this.inventoryService = inventoryService;
+        this.reservationService = reservationService;
     }
 
     @PostMapping
@@ -39,6 +50,55 @@ public class InventoryController {
         return new ResponseEntity<>(inventoryService.getInventoryByBookId(bookId), HttpStatus.OK);
     }
 
+    @PostMapping("/book/{bookId}/reserve")
+    ResponseEntity<InventoryResponseDTO> reserveStock(@PathVariable("bookId") Long bookId, @Valid @RequestBody StockAdjustmentRequestDTO stockAdjustmentRequestDTO){
+        log.info("Inventory Controller: reserveStock: {} - {}", bookId, stockAdjustmentRequestDTO);
+        return new ResponseEntity<>(inventoryService.reserveStock(bookId, stockAdjustmentRequestDTO.quantity()), HttpStatus.OK);
+    }
+
+    @PostMapping("/book/{bookId}/release")
+    ResponseEntity<InventoryResponseDTO> releaseStock(@PathVariable("bookId") Long bookId, @Valid @RequestBody StockAdjustmentRequestDTO stockAdjustmentRequestDTO){
+        log.info("Inventory Controller: releaseStock: {} - {}", bookId, stockAdjustmentRequestDTO);
+        return new ResponseEntity<>(inventoryService.releaseStock(bookId, stockAdjustmentRequestDTO.quantity()), HttpStatus.OK);
+    }
+
+    @PostMapping("/reservations")
+    ResponseEntity<ReservationResponseDTO> createReservation(@Valid @RequestBody ReservationRequestDTO reservationRequestDTO,
+                                                             @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("Inventory Controller: createReservation: {}", reservationRequestDTO);
+        return new ResponseEntity<>(reservationService.createReservation(reservationRequestDTO, userId), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/reservations/{id}")
+    ResponseEntity<ReservationResponseDTO> getReservation(@PathVariable("id") Long id, @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("Inventory Controller: getReservation: {}", id);
+        return new ResponseEntity<>(reservationService.getReservation(id, userId), HttpStatus.OK);
+    }
+
+    @PostMapping("/reservations/{id}/confirm")
+    ResponseEntity<ReservationResponseDTO> confirmReservation(@PathVariable("id") Long id, @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("Inventory Controller: confirmReservation: {}", id);
+        return new ResponseEntity<>(reservationService.confirmReservation(id, userId), HttpStatus.OK);
+    }
+
+    @PostMapping("/reservations/{id}/release")
+    ResponseEntity<ReservationResponseDTO> releaseReservation(@PathVariable("id") Long id, @RequestHeader(USER_ID_HEADER) Long userId){
+        log.info("Inventory Controller: releaseReservation: {}", id);
+        return new ResponseEntity<>(reservationService.releaseReservation(id, userId), HttpStatus.OK);
+    }
+
+    @PostMapping("/bulk")
+    ResponseEntity<Map<Long, InventoryResponseDTO>> createInventories(@RequestBody List<@Valid InventoryRequestDTO> inventoryRequestDTOs){
+        log.info("Inventory Controller: createInventories: {} records", inventoryRequestDTOs.size());
+        return new ResponseEntity<>(inventoryService.createInventories(inventoryRequestDTOs), HttpStatus.OK);
+    }
+
+    @PostMapping("/book/batch")
+    ResponseEntity<Map<Long, InventoryResponseDTO>> getInventoriesByBookIds(@RequestBody List<Long> bookIds){
+        log.info("Inventory Controller: getInventoriesByBookIds: {} book ids", bookIds.size());
+        return new ResponseEntity<>(inventoryService.getInventoriesByBookIds(bookIds), HttpStatus.OK);
+    }
+
     @GetMapping
     public ResponseEntity<Page<InventoryResponseDTO>> getAllInventory(
             @RequestParam(defaultValue = "0") int page,
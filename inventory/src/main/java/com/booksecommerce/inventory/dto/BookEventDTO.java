@@ -0,0 +1,6 @@
+package com.booksecommerce.inventory.dto;
+
+public record BookEventDTO(
+        Long bookId
+) {
+}
@@ -0,0 +1,20 @@
+package com.booksecommerce.inventory.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ReservationRequestDTO(
+        @NotNull(message = "Book ID is required")
+        @Positive(message = "Book ID must be positive")
+        Long bookId,
+
+        @NotNull(message = "Quantity is required")
+        @Positive(message = "Quantity must be positive")
+        Integer quantity,
+
+        @Positive(message = "TTL must be positive")
+        @Max(value = 86400, message = "TTL cannot exceed one day")
+        Integer ttlSeconds
+) {
+}
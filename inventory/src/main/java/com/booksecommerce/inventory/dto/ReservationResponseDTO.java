@@ -0,0 +1,15 @@
+package com.booksecommerce.inventory.dto;
+
+import com.booksecommerce.inventory.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+public record ReservationResponseDTO(
+        Long id,
+        Long bookId,
+        Integer quantity,
+        ReservationStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.booksecommerce.inventory.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record StockAdjustmentRequestDTO(
+        @NotNull(message = "Quantity is required")
+        @Positive(message = "Quantity must be positive")
+        Integer quantity
+) {
+}
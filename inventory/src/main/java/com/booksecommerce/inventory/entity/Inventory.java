@@ -1,9 +1,13 @@
 package com.booksecommerce.inventory.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,10 +18,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Data
 @Builder
+@Table(indexes = @Index(name = "idx_inventory_book_id", columnList = "bookId"))
 public class Inventory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_seq")
+    @SequenceGenerator(name = "inventory_seq", sequenceName = "inventory_seq", allocationSize = 50)
     private Long id;
 
     private Long bookId;
@@ -26,4 +32,10 @@ public class Inventory {
     private Integer stockQuantity;
 
     private Boolean availabilityStatus;
+
+    // Set while the instance holding the hot stock lease serves this book from memory; the row's stock
+    // then lags behind the stock_ledger and only that instance may change it
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean hot = false;
 }
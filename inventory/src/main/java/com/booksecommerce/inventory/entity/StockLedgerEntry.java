@@ -0,0 +1,44 @@
+package com.booksecommerce.inventory.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stock change of a hot book that has been applied in memory but not yet to its Inventory row.
+ * Entries are deleted once flushed, so the table only holds pending changes.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "stock_ledger", indexes = @Index(name = "idx_stock_ledger_book_id", columnList = "bookId"))
+public class StockLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_ledger_seq")
+    @SequenceGenerator(name = "stock_ledger_seq", sequenceName = "stock_ledger_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    // Negative for reservations, positive for releases
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,8 @@
+package com.booksecommerce.inventory.enums;
+
+public enum ReservationStatus {
+    ACTIVE,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,11 @@
+package com.booksecommerce.inventory.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class HotStockUnavailableException extends RuntimeException{
+    public HotStockUnavailableException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.booksecommerce.inventory.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ReservationNotFoundException extends RuntimeException{
+    public ReservationNotFoundException(String message){
+        super(message);
+    }
+}
@@ -1,13 +1,26 @@
 package com.booksecommerce.inventory.feignclient;
 
+import com.booksecommerce.inventory.dto.InventoryResponseDTO;
+import com.ecommerce_books.common.events.CatalogEvent;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 @FeignClient(name = "BOOK-SERVICE", path = "/api/v1/books")
 public interface BookClient {
 
     @GetMapping("/{id}/exists")
     ResponseEntity<Boolean> checkBookExists(@PathVariable("id") Long id);
+
+    @GetMapping("/ids")
+    ResponseEntity<List<Long>> getBookIds(@RequestParam("afterId") long afterId, @RequestParam("size") int size);
+
+    @PostMapping("/catalog-events/inventory")
+    ResponseEntity<Void> inventoryChanged(@RequestBody CatalogEvent<InventoryResponseDTO> inventoryEvent);
 }
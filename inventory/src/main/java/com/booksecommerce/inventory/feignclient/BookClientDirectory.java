@@ -0,0 +1,29 @@
+package com.booksecommerce.inventory.feignclient;
+
+import com.ecommerce_books.common.books.BookDirectory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Answers the shared KnownBookRegistry's lookups through book-service's Feign client.
+ */
+@Component
+public class BookClientDirectory implements BookDirectory {
+    private final BookClient bookClient;
+
+    public BookClientDirectory(BookClient bookClient) {
+        this.bookClient = bookClient;
+    }
+
+    @Override
+    public List<Long> getBookIds(long afterId, int size) {
+        List<Long> bookIds = bookClient.getBookIds(afterId, size).getBody();
+        return bookIds != null ? bookIds : List.of();
+    }
+
+    @Override
+    public boolean bookExists(Long bookId) {
+        return Boolean.TRUE.equals(bookClient.checkBookExists(bookId).getBody());
+    }
+}
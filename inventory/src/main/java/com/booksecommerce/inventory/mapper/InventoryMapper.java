@@ -2,7 +2,9 @@ package com.booksecommerce.inventory.mapper;
 
 import com.booksecommerce.inventory.dto.InventoryRequestDTO;
 import com.booksecommerce.inventory.dto.InventoryResponseDTO;
+import com.booksecommerce.inventory.dto.ReservationResponseDTO;
 import com.booksecommerce.inventory.entity.Inventory;
+import com.booksecommerce.inventory.entity.Reservation;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,4 +25,15 @@ public class InventoryMapper {
                 inventory.getAvailabilityStatus()
         );
     }
+
+    public ReservationResponseDTO mapReservationToReservationResponseDTO(Reservation reservation) {
+        return new ReservationResponseDTO(
+                reservation.getId(),
+                reservation.getBookId(),
+                reservation.getQuantity(),
+                reservation.getStatus(),
+                reservation.getCreatedAt(),
+                reservation.getExpiresAt()
+        );
+    }
 }
@@ -0,0 +1,42 @@
+package com.booksecommerce.inventory.repository;
+
+import com.booksecommerce.inventory.entity.HotStockLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface HotStockLeaseRepository extends JpaRepository<HotStockLease, String> {
+
+    /**
+     * Takes or renews the lease if this instance already holds it or the previous owner let it expire;
+     * returns 0 while another instance holds it.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE HotStockLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int tryAcquire(@Param("name") String name,
+                   @Param("owner") String owner,
+                   @Param("now") LocalDateTime now,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Creates the lease row for the first owner; returns 0 if the row already exists.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO hot_stock_lease (name, owner, expires_at) VALUES (:name, :owner, :expiresAt)",
+            nativeQuery = true)
+    int tryCreate(@Param("name") String name,
+                  @Param("owner") String owner,
+                  @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM HotStockLease l WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -2,9 +2,53 @@ package com.booksecommerce.inventory.repository;
 
 import com.booksecommerce.inventory.entity.Inventory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     Optional<Inventory> findByBookId(Long bookId);
+    List<Inventory> findByBookIdIn(Collection<Long> bookIds);
+    List<Inventory> findByHotTrue();
+    boolean existsByHotTrue();
+
+    /**
+     * Takes quantity units only if enough stock is left; returns 0 otherwise. Only the book's row is locked.
+     * availabilityStatus is assigned first because MySQL evaluates SET assignments left to right.
+     * Hot rows are never changed here, their stock is owned by the hot stock lease holder.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET " +
+            "i.availabilityStatus = CASE WHEN i.stockQuantity - :quantity > 0 THEN true ELSE false END, " +
+            "i.stockQuantity = i.stockQuantity - :quantity " +
+            "WHERE i.bookId = :bookId AND i.stockQuantity >= :quantity AND i.hot = false")
+    int reserveStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.availabilityStatus = true, i.stockQuantity = i.stockQuantity + :quantity " +
+            "WHERE i.bookId = :bookId AND i.hot = false")
+    int releaseStock(@Param("bookId") Long bookId, @Param("quantity") int quantity);
+
+    /**
+     * Applies flushed ledger deltas; returns 0 if the row is gone or the delta would drive the stock below zero.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET " +
+            "i.availabilityStatus = CASE WHEN i.stockQuantity + :delta > 0 THEN true ELSE false END, " +
+            "i.stockQuantity = i.stockQuantity + :delta " +
+            "WHERE i.bookId = :bookId AND i.stockQuantity + :delta >= 0")
+    int applyStockDelta(@Param("bookId") Long bookId, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Inventory i SET i.hot = :hot WHERE i.bookId IN :bookIds")
+    int setHot(@Param("bookIds") Collection<Long> bookIds, @Param("hot") boolean hot);
 }
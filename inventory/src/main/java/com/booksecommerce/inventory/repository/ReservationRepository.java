@@ -0,0 +1,32 @@
+package com.booksecommerce.inventory.repository;
+
+import com.booksecommerce.inventory.entity.Reservation;
+import com.booksecommerce.inventory.enums.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    Slice<Reservation> findByStatusAndIdGreaterThanOrderByIdAsc(ReservationStatus status, Long id, Pageable pageable);
+
+    Slice<Reservation> findByStatusAndExpiresAtBeforeAndIdGreaterThanOrderByIdAsc(ReservationStatus status, LocalDateTime expiresAt,
+                                                                                 Long id, Pageable pageable);
+
+    /**
+     * Moves a reservation out of the expected status. Confirm, release and expiry all go through this
+     * compare-and-set, so exactly one of them wins and stock is released at most once.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = :newStatus WHERE r.id = :id AND r.status = :expectedStatus")
+    int transition(@Param("id") Long id,
+                   @Param("expectedStatus") ReservationStatus expectedStatus,
+                   @Param("newStatus") ReservationStatus newStatus);
+}
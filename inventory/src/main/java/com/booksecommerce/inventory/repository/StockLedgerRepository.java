@@ -0,0 +1,19 @@
+package com.booksecommerce.inventory.repository;
+
+import com.booksecommerce.inventory.entity.StockLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StockLedgerRepository extends JpaRepository<StockLedgerEntry, Long> {
+
+    @Query("SELECT COALESCE(SUM(l.delta), 0) FROM StockLedgerEntry l WHERE l.bookId = :bookId")
+    long sumPendingDelta(@Param("bookId") Long bookId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StockLedgerEntry l WHERE l.bookId = :bookId")
+    int deleteByBookId(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,348 @@
+package com.booksecommerce.inventory.service;
+
+import com.booksecommerce.inventory.dto.InventoryResponseDTO;
+import com.booksecommerce.inventory.entity.Inventory;
+import com.booksecommerce.inventory.entity.StockLedgerEntry;
+import com.booksecommerce.inventory.exceptions.HotStockUnavailableException;
+import com.booksecommerce.inventory.exceptions.InsufficientStockException;
+import com.booksecommerce.inventory.feignclient.BookClient;
+import com.booksecommerce.inventory.mapper.InventoryMapper;
+import com.booksecommerce.inventory.repository.HotStockLeaseRepository;
+import com.booksecommerce.inventory.repository.InventoryRepository;
+import com.booksecommerce.inventory.repository.StockLedgerRepository;
+import com.booksecommerce.inventory.util.StripedStockCounter;
+import com.ecommerce_books.common.events.CatalogEventPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Optional in-memory stock for flash-sale books. Reservations are checked against striped counters and
+ * recorded in the stock_ledger table instead of updating the book's Inventory row; the ledger is folded
+ * into the Inventory rows in batches by {@link #flushLedger()}. When a counter is loaded it starts from the
+ * stored stock plus the unflushed ledger.
+ * <p>
+ * The counters are only correct if a single instance changes the stock of a hot book, so the hot set and
+ * its owner live in the database: the instance configured with inventory.hot-stock.book-ids takes the
+ * hot_stock_lease row and flags those Inventory rows as hot. Every other instance leaves flagged rows alone
+ * and rejects reserve/release calls for them. An instance configured with hot books that cannot take the
+ * lease fails to start, and an owner that cannot renew it stops serving hot books once its lease has run
+ * out. If the owner is gone for good, any instance that finds the lease expired folds the remaining ledger
+ * into the Inventory rows and hands the books back to the database path.
+ */
+@Service
+@Slf4j
+public class HotStockService {
+
+    private static final String LEASE_NAME = "hot-stock";
+
+    private final InventoryRepository inventoryRepository;
+    private final StockLedgerRepository stockLedgerRepository;
+    private final HotStockLeaseRepository hotStockLeaseRepository;
+    private final InventoryMapper inventoryMapper;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final BookClient bookClient;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> hotBookIds;
+    private final int stripes;
+    private final int flushBatchSize;
+    private final Duration leaseTtl;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    private final Map<Long, HotStock> hotStocks = new ConcurrentHashMap<>();
+    private volatile LocalDateTime leaseValidUntil;
+
+    public HotStockService(InventoryRepository inventoryRepository,
+                           StockLedgerRepository stockLedgerRepository,
+                           HotStockLeaseRepository hotStockLeaseRepository,
+                           InventoryMapper inventoryMapper,
+                           CatalogEventPublisher catalogEventPublisher,
+                           BookClient bookClient,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${inventory.hot-stock.book-ids:}") Set<Long> hotBookIds,
+                           @Value("${inventory.hot-stock.stripes:0}") int stripes,
+                           @Value("${inventory.hot-stock.flush-batch-size:5000}") int flushBatchSize,
+                           @Value("${inventory.hot-stock.lease-ttl:30s}") Duration leaseTtl) {
+        this.inventoryRepository = inventoryRepository;
+        this.stockLedgerRepository = stockLedgerRepository;
+        this.hotStockLeaseRepository = hotStockLeaseRepository;
+        this.inventoryMapper = inventoryMapper;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.bookClient = bookClient;
+        this.transactionTemplate = transactionTemplate;
+        this.hotBookIds = hotBookIds;
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.flushBatchSize = flushBatchSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * Runs before the service accepts requests and before the flush job starts, so the stored stock
+     * and the pending ledger are read without concurrent changes.
+     */
+    @PostConstruct
+    public void loadHotStock() {
+        if (hotBookIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime expiresAt = acquireLease();
+        if (expiresAt == null) {
+            throw new IllegalStateException("Hot stock for book ids " + hotBookIds + " is already served by another "
+                    + "inventory instance; configure inventory.hot-stock.book-ids on a single instance only");
+        }
+        takeOverHotBooks();
+        leaseValidUntil = expiresAt;
+    }
+
+    /**
+     * True only on the lease holder; on other instances a hot book shows up as a rejected database update.
+     */
+    public boolean isHot(Long bookId) {
+        return hotStocks.containsKey(bookId);
+    }
+
+    /**
+     * Stops serving a book whose inventory was deleted. Its unflushed ledger entries are dropped too,
+     * so they are never applied to an inventory created later for the same book. On other instances
+     * the owner drops the counter when it next renews its lease.
+     */
+    public void evict(Long bookId) {
+        stockLedgerRepository.deleteByBookId(bookId);
+        if (hotStocks.remove(bookId) != null) {
+            log.info("Hot Stock: Book id {} no longer served from memory, its inventory was deleted", bookId);
+        }
+    }
+
+    public InventoryResponseDTO reserve(Long bookId, int quantity) {
+        HotStock hotStock = requireHotStock(bookId);
+        if (!hotStock.counter().tryTake(quantity)) {
+            throw new InsufficientStockException("Cannot reserve " + quantity + " units for book id: " + bookId
+                    + ", only " + hotStock.counter().sum() + " in stock");
+        }
+        try {
+            recordInLedger(bookId, -quantity);
+        } catch (RuntimeException e) {
+            hotStock.counter().add(quantity);
+            throw e;
+        }
+        return toResponse(bookId, hotStock);
+    }
+
+    public InventoryResponseDTO release(Long bookId, int quantity) {
+        HotStock hotStock = requireHotStock(bookId);
+        recordInLedger(bookId, quantity);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Part of a larger transaction (a reservation closing): the units only come back once it commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    hotStock.counter().add(quantity);
+                }
+            });
+        } else {
+            hotStock.counter().add(quantity);
+        }
+        return toResponse(bookId, hotStock);
+    }
+
+    /**
+     * Applies pending ledger entries to the Inventory table with one UPDATE per book and removes them,
+     * all in one transaction so an entry is never applied twice.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval:1s}")
+    @Transactional
+    public void flushLedger() {
+        if (!holdsLease()) {
+            return;
+        }
+        List<StockLedgerEntry> entries = stockLedgerRepository
+                .findAll(PageRequest.of(0, flushBatchSize, Sort.by("id")))
+                .getContent();
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> deltas = entries.stream()
+                .collect(Collectors.groupingBy(StockLedgerEntry::getBookId, Collectors.summingInt(StockLedgerEntry::getDelta)));
+        Set<Long> rejected = deltas.entrySet().stream()
+                .filter(delta -> !applyDelta(delta.getKey(), delta.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        List<StockLedgerEntry> flushed = entries.stream().filter(entry -> !rejected.contains(entry.getBookId())).toList();
+        stockLedgerRepository.deleteAllInBatch(flushed);
+        deltas.keySet().removeAll(rejected);
+        log.info("Hot Stock: Flushed {} ledger entries for {} books", flushed.size(), deltas.size());
+
+        inventoryRepository.findByBookIdIn(deltas.keySet()).stream()
+                .map(inventoryMapper::mapInventoryToInventoryResponseDTO)
+                .forEach(inventoryResponseDTO -> catalogEventPublisher.publishChanged(InventoryService.CATALOG_TOPIC,
+                        inventoryResponseDTO.bookId(), inventoryResponseDTO, bookClient::inventoryChanged));
+    }
+
+    /**
+     * Renews the lease on the configured owner, reloading the counters if the lease had been lost in between.
+     * On every other instance it hands hot books back to the database path once their owner's lease expired.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.lease-renew-interval:10s}")
+    public void renewLease() {
+        try {
+            if (hotBookIds.isEmpty()) {
+                releaseAbandonedHotBooks();
+                return;
+            }
+            boolean wasHeld = holdsLease();
+            LocalDateTime expiresAt = acquireLease();
+            if (expiresAt == null) {
+                if (wasHeld) {
+                    log.error("Hot Stock: Lease was taken over by another instance, hot books are no longer served here");
+                }
+                leaseValidUntil = LocalDateTime.MIN;
+                return;
+            }
+            if (wasHeld) {
+                // Inventory deleted through another instance
+                Set<Long> stillHot = inventoryRepository.findByHotTrue().stream().map(Inventory::getBookId).collect(Collectors.toSet());
+                hotStocks.keySet().retainAll(stillHot);
+            } else {
+                log.info("Hot Stock: Lease acquired again, reloading hot stock");
+                takeOverHotBooks();
+            }
+            leaseValidUntil = expiresAt;
+        } catch (RuntimeException e) {
+            log.error("Hot Stock: Could not renew the lease, it runs out at {}", leaseValidUntil, e);
+        }
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        if (leaseValidUntil != null) {
+            hotStockLeaseRepository.release(LEASE_NAME, owner);
+        }
+    }
+
+    /**
+     * Flags the configured books as hot and loads their counters. Books another owner left flagged are
+     * folded back first, so the hot set always matches the current owner's configuration.
+     */
+    private void takeOverHotBooks() {
+        hotStocks.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> previouslyHot = inventoryRepository.findByHotTrue().stream()
+                    .map(Inventory::getBookId)
+                    .filter(bookId -> !hotBookIds.contains(bookId))
+                    .collect(Collectors.toSet());
+            foldLedgerAndCool(previouslyHot);
+            inventoryRepository.setHot(hotBookIds, true);
+        });
+        for (Long bookId : hotBookIds) {
+            inventoryRepository.findByBookId(bookId).ifPresentOrElse(inventory -> {
+                long stock = inventory.getStockQuantity() + stockLedgerRepository.sumPendingDelta(bookId);
+                hotStocks.put(bookId, new HotStock(inventory.getId(), new StripedStockCounter(stock, stripes)));
+                log.info("Hot Stock: Book id {} served from memory with {} units over {} stripes", bookId, stock, stripes);
+            }, () -> log.warn("Hot Stock: No inventory for hot book id {}, it stays on the database path", bookId));
+        }
+    }
+
+    /**
+     * Takes an expired lease only to return its owner's books to the database path, then lets it go again,
+     * so a configured owner can still take it when it starts.
+     */
+    private void releaseAbandonedHotBooks() {
+        if (!inventoryRepository.existsByHotTrue() || acquireLease() == null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> foldLedgerAndCool(
+                    inventoryRepository.findByHotTrue().stream().map(Inventory::getBookId).collect(Collectors.toSet())));
+            log.warn("Hot Stock: Lease of the hot stock owner expired, its books are back on the database path");
+        } finally {
+            hotStockLeaseRepository.release(LEASE_NAME, owner);
+        }
+    }
+
+    private void foldLedgerAndCool(Set<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        for (Long bookId : bookIds) {
+            long pending = stockLedgerRepository.sumPendingDelta(bookId);
+            if (pending == 0 || applyDelta(bookId, (int) pending)) {
+                stockLedgerRepository.deleteByBookId(bookId);
+            }
+        }
+        inventoryRepository.setHot(bookIds, false);
+    }
+
+    private boolean applyDelta(Long bookId, int delta) {
+        if (inventoryRepository.applyStockDelta(bookId, delta) > 0) {
+            return true;
+        }
+        if (inventoryRepository.findByBookId(bookId).isEmpty()) {
+            // Inventory deleted, nothing left to apply the entries to
+            stockLedgerRepository.deleteByBookId(bookId);
+            return true;
+        }
+        log.error("Hot Stock: Ledger delta {} would drive the stock of book id {} below zero, entries kept for review", delta, bookId);
+        return false;
+    }
+
+    /**
+     * Returns the new expiry if this instance took or renewed the lease, null while another instance holds it.
+     */
+    private LocalDateTime acquireLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+        if (hotStockLeaseRepository.tryAcquire(LEASE_NAME, owner, now, expiresAt) == 0
+                && hotStockLeaseRepository.tryCreate(LEASE_NAME, owner, expiresAt) == 0) {
+            return null;
+        }
+        return expiresAt;
+    }
+
+    private boolean holdsLease() {
+        LocalDateTime validUntil = leaseValidUntil;
+        return validUntil != null && LocalDateTime.now().isBefore(validUntil);
+    }
+
+    private HotStock requireHotStock(Long bookId) {
+        HotStock hotStock = hotStocks.get(bookId);
+        if (!holdsLease() || hotStock == null) {
+            // Lease lost, or the counters are being reloaded or dropped concurrently
+            throw new HotStockUnavailableException("Hot stock lease is not held by this instance, try again later");
+        }
+        return hotStock;
+    }
+
+    private void recordInLedger(Long bookId, int delta) {
+        stockLedgerRepository.save(StockLedgerEntry.builder()
+                .bookId(bookId)
+                .delta(delta)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private InventoryResponseDTO toResponse(Long bookId, HotStock hotStock) {
+        long stock = hotStock.counter().sum();
+        return new InventoryResponseDTO(hotStock.inventoryId(), bookId, (int) stock, stock > 0);
+    }
+
+    private record HotStock(Long inventoryId, StripedStockCounter counter) {
+    }
+}
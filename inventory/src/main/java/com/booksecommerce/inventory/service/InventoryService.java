@@ -4,40 +4,55 @@ import com.booksecommerce.inventory.dto.InventoryRequestDTO;
 import com.booksecommerce.inventory.dto.InventoryResponseDTO;
 import com.booksecommerce.inventory.entity.Inventory;
 import com.booksecommerce.inventory.exceptions.BadRequestException;
+import com.booksecommerce.inventory.exceptions.HotStockUnavailableException;
+import com.booksecommerce.inventory.exceptions.InsufficientStockException;
 import com.booksecommerce.inventory.exceptions.InventoryNotFoundException;
 import com.booksecommerce.inventory.feignclient.BookClient;
 import com.booksecommerce.inventory.mapper.InventoryMapper;
 import com.booksecommerce.inventory.repository.InventoryRepository;
+import com.ecommerce_books.common.books.KnownBookRegistry;
+import com.ecommerce_books.common.events.CatalogEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class InventoryService {
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+    static final String CATALOG_TOPIC = "inventory";
+
     private final InventoryRepository inventoryRepository;
     private final InventoryMapper inventoryMapper;
+    private final KnownBookRegistry knownBookRegistry;
+    private final CatalogEventPublisher catalogEventPublisher;
     private final BookClient bookClient;
+    private final HotStockService hotStockService;
 
-    public InventoryService(InventoryRepository inventoryRepository, InventoryMapper inventoryMapper, BookClient bookClient) {
+    public InventoryService(InventoryRepository inventoryRepository, InventoryMapper inventoryMapper, KnownBookRegistry knownBookRegistry, CatalogEventPublisher catalogEventPublisher,
+                            BookClient bookClient, HotStockService hotStockService) {
         this.inventoryRepository = inventoryRepository;
         this.inventoryMapper = inventoryMapper;
+        this.knownBookRegistry = knownBookRegistry;
+        this.catalogEventPublisher = catalogEventPublisher;
         this.bookClient = bookClient;
+        this.hotStockService = hotStockService;
     }
 
     public InventoryResponseDTO saveInventory(InventoryRequestDTO inventoryRequestDTO) {
         // Validate that book exists
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(inventoryRequestDTO.bookId());
-            if (response.getBody() == null || !response.getBody()) {
-                throw new BadRequestException("Cannot create inventory: Book with ID " + inventoryRequestDTO.bookId() + " does not exist");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Book with ID {} not found", inventoryRequestDTO.bookId());
+        if (!knownBookRegistry.bookExists(inventoryRequestDTO.bookId())) {
             throw new BadRequestException("Cannot create inventory: Book with ID " + inventoryRequestDTO.bookId() + " does not exist");
         }
 
@@ -47,28 +62,50 @@ public class InventoryService {
                 .availabilityStatus(inventoryRequestDTO.availabilityStatus())
                 .build();
         Inventory savedInventory = inventoryRepository.saveAndFlush(inventory);
-        return inventoryMapper.mapInventoryToInventoryResponseDTO(savedInventory);
+        InventoryResponseDTO inventoryResponseDTO = inventoryMapper.mapInventoryToInventoryResponseDTO(savedInventory);
+        publishInventoryChanged(inventoryResponseDTO);
+        return inventoryResponseDTO;
+    }
+
+    /**
+     * Creates inventory for a chunk of a book-service bulk import. book-service owns the book ids, so they are
+     * registered as known rather than checked one by one. Books that already have inventory keep it, which makes
+     * a replayed chunk harmless. Returns the inventory of every requested book.
+     */
+    @Transactional
+    public Map<Long, InventoryResponseDTO> createInventories(List<InventoryRequestDTO> inventoryRequestDTOs) {
+        if (inventoryRequestDTOs == null || inventoryRequestDTOs.isEmpty()) {
+            return Map.of();
+        }
+        if (inventoryRequestDTOs.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Cannot create more than " + MAX_BULK_SIZE + " inventory records at once");
+        }
+        Map<Long, InventoryRequestDTO> newInventories = new LinkedHashMap<>();
+        inventoryRequestDTOs.forEach(inventoryRequestDTO -> newInventories.putIfAbsent(inventoryRequestDTO.bookId(), inventoryRequestDTO));
+        Set<Long> bookIds = new HashSet<>(newInventories.keySet());
+        inventoryRepository.findByBookIdIn(bookIds).forEach(inventory -> newInventories.remove(inventory.getBookId()));
+
+        inventoryRepository.saveAll(newInventories.values().stream().map(inventoryMapper::mapInventoryRequestDtoToInventory).toList());
+        bookIds.forEach(knownBookRegistry::bookCreated);
+        log.info("Inventory Service: Bulk created {} inventory records, {} already existed", newInventories.size(), bookIds.size() - newInventories.size());
+        return inventoryRepository.findByBookIdIn(bookIds).stream()
+                .map(inventoryMapper::mapInventoryToInventoryResponseDTO)
+                .collect(Collectors.toMap(InventoryResponseDTO::bookId, Function.identity(), (first, second) -> first));
     }
 
     public void deleteInventoryById(Long id){
         Inventory inventory = inventoryRepository.findById(id)
                 .orElseThrow(() -> new InventoryNotFoundException("Inventory not found with id: " + id));
 
-        // Check if book still exists - prevent delete if it does
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(inventory.getBookId());
-            if (response.getBody() != null && response.getBody()) {
-                log.error("Cannot delete inventory: Book with ID {} still exists", inventory.getBookId());
-                throw new BadRequestException("Cannot delete inventory: Book with ID " + inventory.getBookId() + " still exists. Delete the book first.");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            // Book doesn't exist, safe to delete inventory
-            log.info("Book not found, proceeding with inventory deletion");
+        // Check if book still exists - prevent delete if it does. Asked remotely: a stale local entry would make an orphan row undeletable
+        if (bookStillExists(inventory.getBookId())) {
+            log.error("Cannot delete inventory: Book with ID {} still exists", inventory.getBookId());
+            throw new BadRequestException("Cannot delete inventory: Book with ID " + inventory.getBookId() + " still exists. Delete the book first.");
         }
 
         inventoryRepository.delete(inventory);
+        hotStockService.evict(inventory.getBookId());
+        publishInventoryDeleted(inventory.getBookId());
     }
 
     public InventoryResponseDTO getInventoryById(Long inventoryId) {
@@ -89,28 +126,31 @@ public class InventoryService {
         log.info("Inventory Service: Updating inventory with id: {} - {}", id, inventoryRequestDTO);
 
         // Validate that book exists
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(inventoryRequestDTO.bookId());
-            if (response.getBody() == null || !response.getBody()) {
-                throw new BadRequestException("Cannot update inventory: Book with ID " + inventoryRequestDTO.bookId() + " does not exist");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Book with ID {} not found", inventoryRequestDTO.bookId());
+        if (!knownBookRegistry.bookExists(inventoryRequestDTO.bookId())) {
             throw new BadRequestException("Cannot update inventory: Book with ID " + inventoryRequestDTO.bookId() + " does not exist");
         }
 
         Inventory existingInventory = inventoryRepository.findById(id)
                 .orElseThrow(() -> new InventoryNotFoundException("Inventory with id: " + id + " not found"));
+        boolean targetIsHot = !existingInventory.getBookId().equals(inventoryRequestDTO.bookId())
+                && inventoryRepository.findByBookId(inventoryRequestDTO.bookId()).map(Inventory::getHot).orElse(false);
+        if (existingInventory.getHot() || targetIsHot) {
+            throw new BadRequestException("Stock of book id: " + existingInventory.getBookId() + " is held in memory, use reserve/release to change it");
+        }
 
+        Long previousBookId = existingInventory.getBookId();
         existingInventory.setBookId(inventoryRequestDTO.bookId());
         existingInventory.setStockQuantity(inventoryRequestDTO.stockQuantity());
         existingInventory.setAvailabilityStatus(inventoryRequestDTO.availabilityStatus());
 
         Inventory updatedInventory = inventoryRepository.saveAndFlush(existingInventory);
         log.info("Inventory Service: Inventory updated successfully: {}", updatedInventory);
-        return inventoryMapper.mapInventoryToInventoryResponseDTO(updatedInventory);
+        InventoryResponseDTO inventoryResponseDTO = inventoryMapper.mapInventoryToInventoryResponseDTO(updatedInventory);
+        if (!previousBookId.equals(updatedInventory.getBookId())) {
+            publishInventoryDeleted(previousBookId);
+        }
+        publishInventoryChanged(inventoryResponseDTO);
+        return inventoryResponseDTO;
     }
 
     public InventoryResponseDTO getInventoryByBookId(Long bookId) {
@@ -120,10 +160,90 @@ public class InventoryService {
         return inventoryMapper.mapInventoryToInventoryResponseDTO(inventory);
     }
 
+    public Map<Long, InventoryResponseDTO> getInventoriesByBookIds(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+        if (bookIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Cannot get inventory for more than " + MAX_BATCH_SIZE + " book ids at once");
+        }
+        log.info("Inventory Service: Getting inventory for {} book ids", bookIds.size());
+        return inventoryRepository.findByBookIdIn(new HashSet<>(bookIds)).stream()
+                .map(inventoryMapper::mapInventoryToInventoryResponseDTO)
+                .collect(Collectors.toMap(InventoryResponseDTO::bookId, Function.identity(), (first, second) -> first));
+    }
+
+    public InventoryResponseDTO reserveStock(Long bookId, int quantity) {
+        log.info("Inventory Service: Reserving {} units for book id: {}", quantity, bookId);
+        if (hotStockService.isHot(bookId)) {
+            return hotStockService.reserve(bookId, quantity);
+        }
+        if (inventoryRepository.reserveStock(bookId, quantity) == 0) {
+            Inventory inventory = inventoryRepository.findByBookId(bookId)
+                    .orElseThrow(() -> new InventoryNotFoundException("Inventory for book id: " + bookId + " not found"));
+            if (inventory.getHot()) {
+                throw servedElsewhere(bookId);
+            }
+            throw new InsufficientStockException("Cannot reserve " + quantity + " units for book id: " + bookId
+                    + ", only " + inventory.getStockQuantity() + " in stock");
+        }
+        return publishCurrentInventory(bookId);
+    }
+
+    public InventoryResponseDTO releaseStock(Long bookId, int quantity) {
+        log.info("Inventory Service: Releasing {} units for book id: {}", quantity, bookId);
+        if (hotStockService.isHot(bookId)) {
+            return hotStockService.release(bookId, quantity);
+        }
+        if (inventoryRepository.releaseStock(bookId, quantity) == 0) {
+            if (inventoryRepository.findByBookId(bookId).isEmpty()) {
+                throw new InventoryNotFoundException("Inventory for book id: " + bookId + " not found");
+            }
+            throw servedElsewhere(bookId);
+        }
+        return publishCurrentInventory(bookId);
+    }
+
+    /**
+     * A hot book's stock is only changed by the instance holding the hot stock lease, so the database
+     * update skipped it here; the caller retries and may land on the owner.
+     */
+    private static HotStockUnavailableException servedElsewhere(Long bookId) {
+        return new HotStockUnavailableException("Stock of book id: " + bookId
+                + " is served by another inventory instance, try again later");
+    }
+
+    private InventoryResponseDTO publishCurrentInventory(Long bookId) {
+        Inventory inventory = inventoryRepository.findByBookId(bookId)
+                .orElseThrow(() -> new InventoryNotFoundException("Inventory for book id: " + bookId + " not found"));
+        InventoryResponseDTO inventoryResponseDTO = inventoryMapper.mapInventoryToInventoryResponseDTO(inventory);
+        publishInventoryChanged(inventoryResponseDTO);
+        return inventoryResponseDTO;
+    }
+
     public void deleteByBookId(Long bookId) {
         log.info("Inventory Service: Deleting inventory by book id: {}", bookId);
         Inventory inventory = inventoryRepository.findByBookId(bookId)
                 .orElseThrow(() -> new InventoryNotFoundException("Inventory for book id: " + bookId + " not found"));
         inventoryRepository.delete(inventory);
+        hotStockService.evict(bookId);
+        publishInventoryDeleted(bookId);
+    }
+
+    private void publishInventoryChanged(InventoryResponseDTO inventoryResponseDTO) {
+        catalogEventPublisher.publishChanged(CATALOG_TOPIC, inventoryResponseDTO.bookId(), inventoryResponseDTO, bookClient::inventoryChanged);
+    }
+
+    private void publishInventoryDeleted(Long bookId) {
+        catalogEventPublisher.<InventoryResponseDTO>publishDeleted(CATALOG_TOPIC, bookId, bookClient::inventoryChanged);
+    }
+
+    private boolean bookStillExists(Long bookId) {
+        try {
+            return knownBookRegistry.bookExistsRemotely(bookId);
+        } catch (Exception e) {
+            log.error("Cannot verify that book with ID {} is gone: {}", bookId, e.getMessage());
+            throw new BadRequestException("Cannot delete inventory: unable to verify that book with ID " + bookId + " was deleted, try again later");
+        }
     }
 }
@@ -0,0 +1,258 @@
+package com.booksecommerce.inventory.service;
+
+import com.booksecommerce.inventory.dto.ReservationRequestDTO;
+import com.booksecommerce.inventory.dto.ReservationResponseDTO;
+import com.booksecommerce.inventory.entity.Reservation;
+import com.booksecommerce.inventory.enums.ReservationStatus;
+import com.booksecommerce.inventory.exceptions.BadRequestException;
+import com.booksecommerce.inventory.exceptions.InventoryNotFoundException;
+import com.booksecommerce.inventory.exceptions.ReservationNotFoundException;
+import com.booksecommerce.inventory.mapper.InventoryMapper;
+import com.booksecommerce.inventory.repository.ReservationRepository;
+import com.booksecommerce.inventory.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cart reservations that hold stock for a limited time. Open reservations are tracked in a hashed
+ * timing wheel, so expiring them costs work per expired reservation instead of a periodic table scan.
+ * The wheel only lives in the instance that created the reservation, so a slow sweep also expires
+ * reservations left overdue by an instance that went away.
+ */
+@Service
+@Slf4j
+public class ReservationService {
+    private static final int RECOVERY_BATCH_SIZE = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final InventoryService inventoryService;
+    private final InventoryMapper inventoryMapper;
+    private final Duration defaultTtl;
+    private final Duration expiryRetryDelay;
+    private final Duration sweepGrace;
+    private final TransactionTemplate transactionTemplate;
+    private final HashedTimingWheel<Long> expiryWheel;
+    private final ExecutorService expiryExecutor;
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+
+    public ReservationService(ReservationRepository reservationRepository,
+                              InventoryService inventoryService,
+                              InventoryMapper inventoryMapper,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${inventory.reservations.default-ttl:15m}") Duration defaultTtl,
+                              @Value("${inventory.reservations.expiry-retry-delay:30s}") Duration expiryRetryDelay,
+                              @Value("${inventory.reservations.sweep-grace:1m}") Duration sweepGrace,
+                              @Value("${inventory.reservations.wheel-tick:1s}") Duration wheelTick,
+                              @Value("${inventory.reservations.wheel-size:512}") int wheelSize,
+                              @Value("${inventory.reservations.expiry-threads:2}") int expiryThreads) {
+        this.reservationRepository = reservationRepository;
+        this.inventoryService = inventoryService;
+        this.inventoryMapper = inventoryMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultTtl = defaultTtl;
+        this.expiryRetryDelay = expiryRetryDelay;
+        this.sweepGrace = sweepGrace;
+        // The wheel thread only hands expired ids over, the database work runs on the expiry executor
+        this.expiryExecutor = Executors.newFixedThreadPool(expiryThreads);
+        this.expiryWheel = new HashedTimingWheel<>("reservation-expiry", wheelTick, wheelSize,
+                reservationId -> expiryExecutor.execute(() -> expireReservation(reservationId)));
+        this.expiryWheel.start();
+    }
+
+    public ReservationResponseDTO createReservation(ReservationRequestDTO reservationRequestDTO, Long userId) {
+        log.info("Reservation Service: Creating reservation: {}", reservationRequestDTO);
+        Duration ttl = reservationRequestDTO.ttlSeconds() != null
+                ? Duration.ofSeconds(reservationRequestDTO.ttlSeconds())
+                : defaultTtl;
+        inventoryService.reserveStock(reservationRequestDTO.bookId(), reservationRequestDTO.quantity());
+
+        LocalDateTime now = LocalDateTime.now();
+        Reservation reservation;
+        try {
+            reservation = reservationRepository.saveAndFlush(Reservation.builder()
+                    .userId(userId)
+                    .bookId(reservationRequestDTO.bookId())
+                    .quantity(reservationRequestDTO.quantity())
+                    .status(ReservationStatus.ACTIVE)
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (RuntimeException e) {
+            inventoryService.releaseStock(reservationRequestDTO.bookId(), reservationRequestDTO.quantity());
+            throw e;
+        }
+        scheduleExpiry(reservation);
+        return inventoryMapper.mapReservationToReservationResponseDTO(reservation);
+    }
+
+    public ReservationResponseDTO getReservation(Long id, Long userId) {
+        log.info("Reservation Service: Getting reservation with id: {}", id);
+        return inventoryMapper.mapReservationToReservationResponseDTO(findOwnReservation(id, userId));
+    }
+
+    /**
+     * Checkout completed: the stock stays taken and the reservation no longer expires.
+     */
+    public ReservationResponseDTO confirmReservation(Long id, Long userId) {
+        log.info("Reservation Service: Confirming reservation with id: {}", id);
+        Reservation reservation = findOwnReservation(id, userId);
+        if (reservationRepository.transition(id, ReservationStatus.ACTIVE, ReservationStatus.CONFIRMED) == 0) {
+            throw notActive(reservation);
+        }
+        cancelExpiry(id);
+        return inventoryMapper.mapReservationToReservationResponseDTO(findReservation(id));
+    }
+
+    /**
+     * Cart abandoned or emptied before the TTL: the stock goes back right away. If returning the stock fails
+     * the reservation stays ACTIVE, so the caller can retry and expiry still returns it eventually.
+     */
+    public ReservationResponseDTO releaseReservation(Long id, Long userId) {
+        log.info("Reservation Service: Releasing reservation with id: {}", id);
+        Reservation reservation = findOwnReservation(id, userId);
+        if (!closeAndReleaseStock(reservation, ReservationStatus.RELEASED)) {
+            throw notActive(reservation);
+        }
+        cancelExpiry(id);
+        return inventoryMapper.mapReservationToReservationResponseDTO(findReservation(id));
+    }
+
+    /**
+     * Re-arms the wheel for reservations still open after a restart; overdue ones expire on the first tick.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOpenReservations() {
+        long lastId = 0;
+        int recovered = 0;
+        Slice<Reservation> slice;
+        do {
+            slice = reservationRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    ReservationStatus.ACTIVE, lastId, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+            for (Reservation reservation : slice.getContent()) {
+                scheduleExpiry(reservation);
+                lastId = reservation.getId();
+                recovered++;
+            }
+        } while (slice.hasNext());
+        log.info("Reservation Service: Re-armed expiry for {} open reservations", recovered);
+    }
+
+    /**
+     * Expires reservations overdue by more than the grace period, which the wheel of a live instance would
+     * already have handled. If that instance is only slow, the compare-and-set lets just one of them win.
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservations.sweep-interval:1m}")
+    public void sweepOverdueReservations() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(sweepGrace);
+        long lastId = 0;
+        int swept = 0;
+        Slice<Reservation> slice;
+        do {
+            slice = reservationRepository.findByStatusAndExpiresAtBeforeAndIdGreaterThanOrderByIdAsc(
+                    ReservationStatus.ACTIVE, cutoff, lastId, PageRequest.of(0, RECOVERY_BATCH_SIZE));
+            for (Reservation reservation : slice.getContent()) {
+                expireReservation(reservation.getId());
+                lastId = reservation.getId();
+                swept++;
+            }
+        } while (slice.hasNext());
+        if (swept > 0) {
+            log.warn("Reservation Service: Swept {} overdue reservations the timing wheel had not expired", swept);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.stop();
+        expiryExecutor.shutdown();
+    }
+
+    private void expireReservation(Long id) {
+        timeouts.remove(id);
+        Reservation reservation = reservationRepository.findById(id).orElse(null);
+        if (reservation == null) {
+            return;
+        }
+        try {
+            if (closeAndReleaseStock(reservation, ReservationStatus.EXPIRED)) {
+                log.info("Reservation Service: Reservation {} expired, released {} units of book id: {}",
+                        id, reservation.getQuantity(), reservation.getBookId());
+            }
+        } catch (InventoryNotFoundException e) {
+            // The book's inventory was deleted, there is no stock left to return it to
+            reservationRepository.transition(id, ReservationStatus.ACTIVE, ReservationStatus.EXPIRED);
+            log.warn("Reservation Service: Reservation {} expired, inventory for book id: {} no longer exists", id, reservation.getBookId());
+        } catch (Exception e) {
+            // Still ACTIVE because the transaction rolled back, so expiring again later returns the stock
+            log.error("Reservation Service: Failed to expire reservation {}, retrying in {}", id, expiryRetryDelay, e);
+            scheduleExpiry(id, Instant.now().plus(expiryRetryDelay));
+        }
+    }
+
+    /**
+     * Moves the reservation out of ACTIVE and returns its stock in one transaction, so a reservation is
+     * never closed without its stock coming back. Returns false if it was no longer active.
+     */
+    private boolean closeAndReleaseStock(Reservation reservation, ReservationStatus newStatus) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (reservationRepository.transition(reservation.getId(), ReservationStatus.ACTIVE, newStatus) == 0) {
+                return false;
+            }
+            inventoryService.releaseStock(reservation.getBookId(), reservation.getQuantity());
+            return true;
+        }));
+    }
+
+    private void scheduleExpiry(Reservation reservation) {
+        scheduleExpiry(reservation.getId(), reservation.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void scheduleExpiry(Long id, Instant deadline) {
+        timeouts.put(id, expiryWheel.schedule(id, deadline));
+    }
+
+    private void cancelExpiry(Long id) {
+        HashedTimingWheel.Timeout<Long> timeout = timeouts.remove(id);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private static BadRequestException notActive(Reservation reservation) {
+        return new BadRequestException("Reservation with id: " + reservation.getId() + " is no longer active");
+    }
+
+    /**
+     * Another user's reservation is reported as not found, so ids cannot be probed.
+     */
+    private Reservation findOwnReservation(Long id, Long userId) {
+        Reservation reservation = findReservation(id);
+        if (!Objects.equals(reservation.getUserId(), userId)) {
+            throw new ReservationNotFoundException("Reservation with id: " + id + " not found");
+        }
+        return reservation;
+    }
+
+    private Reservation findReservation(Long id) {
+        return reservationRepository.findById(id)
+                .orElseThrow(() -> new ReservationNotFoundException("Reservation with id: " + id + " not found"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.booksecommerce.inventory.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stock of one book split over several independently updated stripes, so concurrent buyers mostly
+ * CAS different cache lines instead of contending on one counter. Unlike a LongAdder a take never
+ * drives the total below zero: it succeeds only if the stripes it draws from hold enough units.
+ */
+public class StripedStockCounter {
+
+    // 8 longs = 64 bytes, so neighbouring stripes never share a cache line
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    // Only gathers take it: two gathers each holding part of the stock could otherwise both roll back
+    private final ReentrantLock gatherLock = new ReentrantLock();
+
+    public StripedStockCounter(long initialStock, int stripes) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+        long share = initialStock / stripes;
+        long remainder = initialStock % stripes;
+        for (int i = 0; i < stripes; i++) {
+            cells.set(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    /**
+     * Takes quantity units, first from a single stripe and, if no stripe holds enough on its own,
+     * by gathering units from several stripes. Returns false and changes nothing if the stock is too low.
+     */
+    public boolean tryTake(long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            if (tryTakeFromStripe((start + i) % stripes, quantity)) {
+                return true;
+            }
+        }
+        gatherLock.lock();
+        try {
+            return gather(start, quantity);
+        } finally {
+            gatherLock.unlock();
+        }
+    }
+
+    public void add(long quantity) {
+        cells.addAndGet(ThreadLocalRandom.current().nextInt(stripes) * PADDING, quantity);
+    }
+
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += cells.get(i * PADDING);
+        }
+        return total;
+    }
+
+    /**
+     * Fails only if the stock is really too low: single-stripe takes never hold units they later give back,
+     * and no other gather runs at the same time.
+     */
+    private boolean gather(int start, long quantity) {
+        long[] takenPerStripe = new long[stripes];
+        long taken = 0;
+        for (int i = 0; i < stripes && taken < quantity; i++) {
+            int stripe = (start + i) % stripes;
+            long got = takeUpTo(stripe, quantity - taken);
+            takenPerStripe[stripe] = got;
+            taken += got;
+        }
+        if (taken == quantity) {
+            return true;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            if (takenPerStripe[stripe] > 0) {
+                cells.addAndGet(stripe * PADDING, takenPerStripe[stripe]);
+            }
+        }
+        return false;
+    }
+
+    private boolean tryTakeFromStripe(int stripe, long quantity) {
+        int index = stripe * PADDING;
+        while (true) {
+            long available = cells.get(index);
+            if (available < quantity) {
+                return false;
+            }
+            if (cells.compareAndSet(index, available, available - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    private long takeUpTo(int stripe, long wanted) {
+        int index = stripe * PADDING;
+        while (true) {
+            long available = cells.get(index);
+            if (available <= 0) {
+                return 0;
+            }
+            long take = Math.min(available, wanted);
+            if (cells.compareAndSet(index, available, available - take)) {
+                return take;
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.booksecommerce.inventory.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HashedTimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+
+    private final Map<String, Instant> expired = new ConcurrentHashMap<>();
+    private final CountDownLatch expiries = new CountDownLatch(1);
+    // 4 buckets of 10 ms: one turn of the wheel is 40 ms
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>("test-wheel", TICK, 4, item -> {
+        expired.put(item, Instant.now());
+        expiries.countDown();
+    });
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void rejectsWheelSizeThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel<String>("bad-wheel", TICK, 3, item -> { }));
+    }
+
+    @Test
+    void deadlineSeveralTurnsAheadWaitsForItsRound() throws InterruptedException {
+        wheel.start();
+        Instant scheduledAt = Instant.now();
+        wheel.schedule("later", scheduledAt.plusMillis(200));
+
+        // The item shares its bucket with earlier ticks; without rounds it would fire within the first turn
+        assertThat(expiries.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.between(scheduledAt, expired.get("later"))).isGreaterThanOrEqualTo(Duration.ofMillis(190));
+    }
+
+    @Test
+    void pastDeadlineExpiresOnTheNextTick() throws InterruptedException {
+        wheel.start();
+        wheel.schedule("overdue", Instant.now().minusSeconds(5));
+
+        assertThat(expiries.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).containsKey("overdue");
+    }
+
+    @Test
+    void cancelledTimeoutNeverExpires() throws InterruptedException {
+        wheel.start();
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Instant.now().plusMillis(50));
+        wheel.schedule("kept", Instant.now().plusMillis(150));
+        cancelled.cancel();
+
+        assertThat(expiries.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(expired).containsOnlyKeys("kept");
+    }
+}
@@ -0,0 +1,132 @@
+package com.booksecommerce.inventory.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+
+    private static final int THREADS = 16;
+
+    @Test
+    void takeGathersUnitsFromSeveralStripes() {
+        // 10 units over 4 stripes: 3, 3, 2, 2, so no single stripe holds 9
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+        assertThat(counter.tryTake(9)).isTrue();
+        assertThat(counter.sum()).isEqualTo(1);
+    }
+
+    @Test
+    void takeLargerThanStockChangesNothing() {
+        StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+        assertThat(counter.tryTake(11)).isFalse();
+        assertThat(counter.sum()).isEqualTo(10);
+        assertThat(counter.tryTake(10)).isTrue();
+        assertThat(counter.sum()).isZero();
+    }
+
+    @Test
+    void concurrentGathersAllSucceedWhenTheStockCoversThem() throws Exception {
+        int takers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(takers);
+        try {
+            for (int round = 0; round < 2_000; round++) {
+                // 2 units per stripe, so every take of 8 has to gather from four stripes
+                StripedStockCounter counter = new StripedStockCounter(takers * 8L, takers * 4);
+                CyclicBarrier start = new CyclicBarrier(takers);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < takers; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return counter.tryTake(8);
+                    }));
+                }
+
+                for (Future<Boolean> result : results) {
+                    assertThat(result.get()).isTrue();
+                }
+                assertThat(counter.sum()).isZero();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentTakesNeverOversell() throws Exception {
+        int initialStock = 1_000;
+        int quantity = 7;
+        StripedStockCounter counter = new StripedStockCounter(initialStock, 8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int taken = 0;
+                    for (int attempt = 0; attempt < 100; attempt++) {
+                        if (counter.tryTake(quantity)) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            int successfulTakes = 0;
+            for (Future<Integer> result : results) {
+                successfulTakes += result.get();
+            }
+
+            // Failed gathers roll back, so every unit is either taken or still counted
+            assertThat(successfulTakes).isEqualTo(initialStock / quantity);
+            assertThat(counter.sum()).isEqualTo(initialStock - (long) successfulTakes * quantity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentTakesAndReleasesKeepTheTotal() throws Exception {
+        int initialStock = 50;
+        StripedStockCounter counter = new StripedStockCounter(initialStock, 8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Long>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long lowestSeen = Long.MAX_VALUE;
+                    for (int attempt = 0; attempt < 1_000; attempt++) {
+                        if (counter.tryTake(5)) {
+                            lowestSeen = Math.min(lowestSeen, counter.sum());
+                            counter.add(5);
+                        }
+                    }
+                    return lowestSeen;
+                }));
+            }
+            start.countDown();
+            for (Future<Long> result : results) {
+                assertThat(result.get()).isNotNegative();
+            }
+            assertThat(counter.sum()).isEqualTo(initialStock);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
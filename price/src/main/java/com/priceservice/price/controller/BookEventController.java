@@ -0,0 +1,38 @@
+package com.priceservice.price.controller;
+
+import com.ecommerce_books.common.books.KnownBookRegistry;
+import com.priceservice.price.dto.BookEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal endpoints book-service calls when a book is created or deleted.
+ */
+@RestController
+@RequestMapping("/api/v1/price/book-events")
+@Slf4j
+public class BookEventController {
+    private final KnownBookRegistry knownBookRegistry;
+
+    public BookEventController(KnownBookRegistry knownBookRegistry) {
+        this.knownBookRegistry = knownBookRegistry;
+    }
+
+    @PostMapping("/created")
+    public ResponseEntity<Void> bookCreated(@RequestBody BookEventDTO bookEventDTO) {
+        log.info("Book Event Controller: Book created: {}", bookEventDTO);
+        knownBookRegistry.bookCreated(bookEventDTO.bookId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/deleted")
+    public ResponseEntity<Void> bookDeleted(@RequestBody BookEventDTO bookEventDTO) {
+        log.info("Book Event Controller: Book deleted: {}", bookEventDTO);
+        knownBookRegistry.bookDeleted(bookEventDTO.bookId());
+        return ResponseEntity.noContent().build();
+    }
+}
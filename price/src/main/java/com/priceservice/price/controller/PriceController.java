@@ -9,6 +9,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/price")
 @Slf4j
@@ -26,6 +29,12 @@ public class PriceController {
         return new ResponseEntity<>(priceService.createPrice(priceRequestDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<Long, PriceResponseDTO>> createPrices(@RequestBody List<@Valid PriceRequestDTO> priceRequestDTOs) {
+        log.info("Price Controller: Request to bulk create {} prices", priceRequestDTOs.size());
+        return new ResponseEntity<>(priceService.createPrices(priceRequestDTOs), HttpStatus.OK);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<PriceResponseDTO> getPriceById(@PathVariable("id") Long id) {
         log.info("Price Controller: Request to get price by id: {}", id);
@@ -51,6 +60,12 @@ public class PriceController {
         return new ResponseEntity<>(priceService.getPriceByBookId(bookId), HttpStatus.OK);
     }
 
+    @PostMapping("/book/batch")
+    ResponseEntity<Map<Long, PriceResponseDTO>> getPricesByBookIds(@RequestBody List<Long> bookIds){
+        log.info("Price Controller: Request to get prices for {} book ids", bookIds.size());
+        return new ResponseEntity<>(priceService.getPricesByBookIds(bookIds), HttpStatus.OK);
+    }
+
     @DeleteMapping("/book/{bookId}")
     ResponseEntity<String> deletePriceByBookId(@PathVariable("bookId") Long bookId){
         log.info("Price Controller: Request to delete book by book id: {}", bookId);
@@ -0,0 +1,6 @@
+package com.priceservice.price.dto;
+
+public record BookEventDTO(
+        Long bookId
+) {
+}
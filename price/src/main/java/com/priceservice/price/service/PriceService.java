@@ -1,5 +1,7 @@
 package com.priceservice.price.service;
 
+import com.ecommerce_books.common.books.KnownBookRegistry;
+import com.ecommerce_books.common.events.CatalogEventPublisher;
 import com.priceservice.price.dto.PriceRequestDTO;
 import com.priceservice.price.dto.PriceResponseDTO;
 import com.priceservice.price.entity.Price;
@@ -9,20 +11,37 @@ import com.priceservice.price.feignclient.BookClient;
 import com.priceservice.price.mapper.PriceMapper;
 import com.priceservice.price.repository.PriceRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class PriceService {
 
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final String CATALOG_TOPIC = "price";
+
     private final PriceRepository priceRepository;
     private final PriceMapper priceMapper;
+    private final KnownBookRegistry knownBookRegistry;
+    private final CatalogEventPublisher catalogEventPublisher;
     private final BookClient bookClient;
 
-    public PriceService(PriceRepository priceRepository, PriceMapper priceMapper, BookClient bookClient) {
+    public PriceService(PriceRepository priceRepository, PriceMapper priceMapper, KnownBookRegistry knownBookRegistry, CatalogEventPublisher catalogEventPublisher,
+                        BookClient bookClient) {
         this.priceRepository = priceRepository;
         this.priceMapper = priceMapper;
+        this.knownBookRegistry = knownBookRegistry;
+        this.catalogEventPublisher = catalogEventPublisher;
         this.bookClient = bookClient;
     }
 
@@ -30,22 +49,42 @@ public class PriceService {
         log.info("Price Service: Creating price: {}", priceRequestDTO);
 
         // Validate that book exists
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(priceRequestDTO.bookId());
-            if (response.getBody() == null || !response.getBody()) {
-                throw new BadRequestException("Cannot create price: Book with ID " + priceRequestDTO.bookId() + " does not exist");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Book with ID {} not found", priceRequestDTO.bookId());
+        if (!knownBookRegistry.bookExists(priceRequestDTO.bookId())) {
             throw new BadRequestException("Cannot create price: Book with ID " + priceRequestDTO.bookId() + " does not exist");
         }
 
         Price price = priceMapper.mapRequestDtoToPrice(priceRequestDTO);
         Price savedPrice = priceRepository.saveAndFlush(price);
         log.info("Price Service: Price created successfully: {}", savedPrice);
-        return priceMapper.mapPriceToResponseDto(savedPrice);
+        PriceResponseDTO priceResponseDTO = priceMapper.mapPriceToResponseDto(savedPrice);
+        publishPriceChanged(priceResponseDTO);
+        return priceResponseDTO;
+    }
+
+    /**
+     * Creates prices for a chunk of a book-service bulk import. book-service owns the book ids, so they are
+     * registered as known rather than checked one by one. Books that already have a price keep it, which makes
+     * a replayed chunk harmless. Returns the price of every requested book.
+     */
+    @Transactional
+    public Map<Long, PriceResponseDTO> createPrices(List<PriceRequestDTO> priceRequestDTOs) {
+        if (priceRequestDTOs == null || priceRequestDTOs.isEmpty()) {
+            return Map.of();
+        }
+        if (priceRequestDTOs.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("Cannot create more than " + MAX_BULK_SIZE + " prices at once");
+        }
+        Map<Long, PriceRequestDTO> newPrices = new LinkedHashMap<>();
+        priceRequestDTOs.forEach(priceRequestDTO -> newPrices.putIfAbsent(priceRequestDTO.bookId(), priceRequestDTO));
+        Set<Long> bookIds = new HashSet<>(newPrices.keySet());
+        priceRepository.findByBookIdIn(bookIds).forEach(price -> newPrices.remove(price.getBookId()));
+
+        priceRepository.saveAll(newPrices.values().stream().map(priceMapper::mapRequestDtoToPrice).toList());
+        bookIds.forEach(knownBookRegistry::bookCreated);
+        log.info("Price Service: Bulk created {} prices, {} already existed", newPrices.size(), bookIds.size() - newPrices.size());
+        return priceRepository.findByBookIdIn(bookIds).stream()
+                .map(priceMapper::mapPriceToResponseDto)
+                .collect(Collectors.toMap(PriceResponseDTO::bookId, Function.identity(), (first, second) -> first));
     }
 
     public PriceResponseDTO getPriceById(Long id) {
@@ -59,21 +98,14 @@ public class PriceService {
         log.info("Price Service: Updating price with id: {} - {}", id, priceRequestDTO);
 
         // Validate that book exists
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(priceRequestDTO.bookId());
-            if (response.getBody() == null || !response.getBody()) {
-                throw new BadRequestException("Cannot update price: Book with ID " + priceRequestDTO.bookId() + " does not exist");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Book with ID {} not found", priceRequestDTO.bookId());
+        if (!knownBookRegistry.bookExists(priceRequestDTO.bookId())) {
             throw new BadRequestException("Cannot update price: Book with ID " + priceRequestDTO.bookId() + " does not exist");
         }
 
         Price existingPrice = priceRepository.findById(id)
                 .orElseThrow(() -> new PriceNotFoundException("Price with id: " + id + " not found"));
 
+        Long previousBookId = existingPrice.getBookId();
         existingPrice.setBookId(priceRequestDTO.bookId());
         existingPrice.setPriceExclVat(priceRequestDTO.priceExclVat());
         existingPrice.setTaxAmount(priceRequestDTO.taxAmount());
@@ -81,7 +113,12 @@ public class PriceService {
 
         Price updatedPrice = priceRepository.saveAndFlush(existingPrice);
         log.info("Price Service: Price updated successfully: {}", updatedPrice);
-        return priceMapper.mapPriceToResponseDto(updatedPrice);
+        PriceResponseDTO priceResponseDTO = priceMapper.mapPriceToResponseDto(updatedPrice);
+        if (!previousBookId.equals(updatedPrice.getBookId())) {
+            publishPriceDeleted(previousBookId);
+        }
+        publishPriceChanged(priceResponseDTO);
+        return priceResponseDTO;
     }
 
     public void deletePrice(Long id) {
@@ -89,21 +126,14 @@ public class PriceService {
         Price price = priceRepository.findById(id)
                 .orElseThrow(() -> new PriceNotFoundException("Price with id: " + id + " not found"));
 
-        // Check if book still exists - prevent delete if it does
-        try {
-            ResponseEntity<Boolean> response = bookClient.checkBookExists(price.getBookId());
-            if (response.getBody() != null && response.getBody()) {
-                log.error("Cannot delete price: Book with ID {} still exists", price.getBookId());
-                throw new BadRequestException("Cannot delete price: Book with ID " + price.getBookId() + " still exists. Delete the book first.");
-            }
-        } catch (BadRequestException e) {
-            throw e;
-        } catch (Exception e) {
-            // Book doesn't exist, safe to delete price
-            log.info("Book not found, proceeding with price deletion");
+        // Check if book still exists - prevent delete if it does. Asked remotely: a stale local entry would make an orphan row undeletable
+        if (bookStillExists(price.getBookId())) {
+            log.error("Cannot delete price: Book with ID {} still exists", price.getBookId());
+            throw new BadRequestException("Cannot delete price: Book with ID " + price.getBookId() + " still exists. Delete the book first.");
         }
 
         priceRepository.delete(price);
+        publishPriceDeleted(price.getBookId());
     }
 
     public PriceResponseDTO getPriceByBookId(Long bookId) {
@@ -113,10 +143,41 @@ public class PriceService {
         return priceMapper.mapPriceToResponseDto(price);
     }
 
+    public Map<Long, PriceResponseDTO> getPricesByBookIds(List<Long> bookIds) {
+        if (bookIds == null || bookIds.isEmpty()) {
+            return Map.of();
+        }
+        if (bookIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Cannot get prices for more than " + MAX_BATCH_SIZE + " book ids at once");
+        }
+        log.info("Price Service: Getting prices for {} book ids", bookIds.size());
+        return priceRepository.findByBookIdIn(new HashSet<>(bookIds)).stream()
+                .map(priceMapper::mapPriceToResponseDto)
+                .collect(Collectors.toMap(PriceResponseDTO::bookId, Function.identity(), (first, second) -> first));
+    }
+
     public void deleteByBookId(Long bookId) {
         log.info("Price Service: Deleting price by book id: {}", bookId);
         Price price = priceRepository.findByBookId(bookId)
                 .orElseThrow(() -> new PriceNotFoundException("Price for book id: " + bookId + " not found"));
         priceRepository.delete(price);
+        publishPriceDeleted(bookId);
+    }
+
+    private void publishPriceChanged(PriceResponseDTO priceResponseDTO) {
+        catalogEventPublisher.publishChanged(CATALOG_TOPIC, priceResponseDTO.bookId(), priceResponseDTO, bookClient::priceChanged);
+    }
+
+    private void publishPriceDeleted(Long bookId) {
+        catalogEventPublisher.<PriceResponseDTO>publishDeleted(CATALOG_TOPIC, bookId, bookClient::priceChanged);
+    }
+
+    private boolean bookStillExists(Long bookId) {
+        try {
+            return knownBookRegistry.bookExistsRemotely(bookId);
+        } catch (Exception e) {
+            log.error("Cannot verify that book with ID {} is gone: {}", bookId, e.getMessage());
+            throw new BadRequestException("Cannot delete price: unable to verify that book with ID " + bookId + " was deleted, try again later");
+        }
     }
 }
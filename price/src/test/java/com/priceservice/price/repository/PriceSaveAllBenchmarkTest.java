@@ -0,0 +1,99 @@
+package com.priceservice.price.repository;
+
+import com.priceservice.price.entity.Price;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the saveAll behind the bulk price creation (PriceService) on MySQL with the service's own JPA settings
+ * from application.yaml: the pooled price_seq, batch_size 50, order_inserts and rewriteBatchedStatements. Needs
+ * Docker; run with {@code mvn test -Dtest=PriceSaveAllBenchmarkTest} and read the logged statement count and time.
+ */
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+// saveAll runs in its own transaction, as in the bulk creation, so the batches are flushed inside the measurement
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PriceSaveAllBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceSaveAllBenchmarkTest.class);
+    private static final int ROWS = 5_000;
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Test
+    void saveAllSendsPricesInBatches() {
+        // Warm-up round so class loading and JIT do not count against the measured one
+        saveAll(0);
+        priceRepository.deleteAllInBatch();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        saveAll(ROWS);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("saveAll of {} prices: {} statements in {} ms", ROWS, statistics.getPrepareStatementCount(), elapsed.toMillis());
+        assertThat(priceRepository.count()).isEqualTo(ROWS);
+        // The INSERT is prepared once and sent in batches of 50, plus one sequence call per 50 ids; IDENTITY
+        // prepared and ran one INSERT per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    }
+
+    private void saveAll(long firstBookId) {
+        List<Price> prices = LongStream.range(firstBookId, firstBookId + ROWS)
+                .mapToObj(i -> Price.builder()
+                        .bookId(i + 1)
+                        .priceExclVat(new BigDecimal("12.50"))
+                        .taxAmount(new BigDecimal("1.13"))
+                        .currency("EUR")
+                        .build())
+                .toList();
+        priceRepository.saveAll(prices);
+    }
+
+    // The application class enables Feign clients and discovery, which a JPA slice cannot start
+    @Configuration
+    @EntityScan(basePackageClasses = Price.class)
+    @EnableJpaRepositories(basePackageClasses = PriceRepository.class)
+    static class JpaConfig {
+    }
+}
@@ -1,9 +1,12 @@
 package com.reviews.reviews.controller;
 
 
+import com.reviews.reviews.dto.CursorPageDTO;
+import com.reviews.reviews.dto.RatingSummaryDTO;
 import com.reviews.reviews.dto.ReviewRequestDTO;
 import com.reviews.reviews.dto.ReviewResponseDTO;
 import com.reviews.reviews.exceptions.ErrorDetails;
+import com.reviews.reviews.service.RatingSummaryService;
 import com.reviews.reviews.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,6 +24,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/review")
@@ -28,9 +33,11 @@ import java.security.Principal;
 @Tag(name = "Review Management", description = "APIs for managing book reviews")
 public class ReviewController {
     private final ReviewService reviewService;
+    private final RatingSummaryService ratingSummaryService;
 
-    public ReviewController(ReviewService reviewService) {
+    public ReviewController(ReviewService reviewService, RatingSummaryService ratingSummaryService) {
         this.reviewService = reviewService;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
     @Operation(
@@ -140,6 +147,77 @@ public class ReviewController {
         return new ResponseEntity<>(reviewService.getBookReviews(bookId, page, size, sortBy, sortDir), HttpStatus.OK);
     }
 
+    @Operation(
+            summary = "Get rating summary for a book",
+            description = "Returns the review count, average rating and rating histogram of a book. " +
+                    "Books without reviews return a zero summary."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved rating summary",
+                    content = @Content(schema = @Schema(implementation = RatingSummaryDTO.class))
+            )
+    })
+    @GetMapping("/book/{bookId}/summary")
+    public ResponseEntity<RatingSummaryDTO> getBookRatingSummary(
+            @Parameter(description = "Book ID", required = true)
+            @PathVariable Long bookId) {
+        log.info("Review Controller: getBookRatingSummary called with bookId: {}", bookId);
+        return new ResponseEntity<>(ratingSummaryService.getSummary(bookId), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Get rating summaries for several books",
+            description = "Returns rating summaries keyed by book ID for up to 500 books in one call"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved rating summaries"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many book IDs",
+                    content = @Content(schema = @Schema(implementation = ErrorDetails.class))
+            )
+    })
+    @GetMapping("/book/summary")
+    public ResponseEntity<Map<Long, RatingSummaryDTO>> getBookRatingSummaries(
+            @Parameter(description = "Comma separated book IDs", required = true, example = "1,2,3")
+            @RequestParam List<Long> bookIds) {
+        log.info("Review Controller: getBookRatingSummaries called for {} book ids", bookIds.size());
+        return new ResponseEntity<>(ratingSummaryService.getSummaries(bookIds), HttpStatus.OK);
+    }
+
+    @Operation(
+            summary = "Scroll reviews by book ID",
+            description = "Retrieves a book's reviews newest first using an opaque cursor instead of page numbers. " +
+                    "Pass the returned nextCursor to get the following page; it is null on the last page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved book reviews"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorDetails.class))
+            )
+    })
+    @GetMapping("/book/{bookId}/scroll")
+    public ResponseEntity<CursorPageDTO<ReviewResponseDTO>> scrollBookReviews(
+            @Parameter(description = "Book ID", required = true)
+            @PathVariable Long bookId,
+            @Parameter(description = "Cursor returned by the previous page, omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Review Controller: scrollBookReviews called with bookId: {}, cursor: {}, size: {}", bookId, cursor, size);
+        return new ResponseEntity<>(reviewService.scrollBookReviews(bookId, cursor, size), HttpStatus.OK);
+    }
+
     @Operation(
             summary = "Update a review",
             description = "Updates an existing review's rating and text. Users can only update their own reviews. Admins can update any review. User ID is extracted from JWT token."
@@ -0,0 +1,14 @@
+package com.reviews.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "A page of results with an opaque cursor to fetch the next one")
+public record CursorPageDTO<T>(
+        @Schema(description = "Items on this page")
+        List<T> content,
+
+        @Schema(description = "Cursor for the next page, null when there are no more results")
+        String nextCursor) {
+}
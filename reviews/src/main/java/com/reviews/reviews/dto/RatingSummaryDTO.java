@@ -0,0 +1,20 @@
+package com.reviews.reviews.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+@Schema(description = "Aggregated ratings for a book")
+public record RatingSummaryDTO(
+        @Schema(description = "ID of the book", example = "1")
+        Long bookId,
+
+        @Schema(description = "Number of reviews", example = "12")
+        long reviewCount,
+
+        @Schema(description = "Average rating, 0 when there are no reviews", example = "4.25")
+        double averageRating,
+
+        @Schema(description = "Number of reviews per rating value (0-5)")
+        Map<Integer, Long> ratingHistogram) {
+}
@@ -0,0 +1,4 @@
+package com.reviews.reviews.dto;
+
+public record ReviewCountDTO(Long bookId, Integer numberOfReviews) {
+}
@@ -0,0 +1,83 @@
+package com.reviews.reviews.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Precomputed rating aggregates for one book, maintained alongside every review write.
+ */
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@Table(name = "book_rating_summary")
+public class BookRatingSummary {
+
+    @Id
+    private Long bookId;
+
+    private long reviewCount;
+
+    private long ratingSum;
+
+    private double averageRating;
+
+    private long zeroStarCount;
+
+    private long oneStarCount;
+
+    private long twoStarCount;
+
+    private long threeStarCount;
+
+    private long fourStarCount;
+
+    private long fiveStarCount;
+
+    public void addRating(int rating) {
+        addRatings(rating, 1);
+    }
+
+    public void removeRating(int rating) {
+        addRatings(rating, -1);
+    }
+
+    public void clear() {
+        reviewCount = 0;
+        ratingSum = 0;
+        zeroStarCount = 0;
+        oneStarCount = 0;
+        twoStarCount = 0;
+        threeStarCount = 0;
+        fourStarCount = 0;
+        fiveStarCount = 0;
+        recalculateAverage();
+    }
+
+    public void addRatings(int rating, long count) {
+        reviewCount += count;
+        ratingSum += rating * count;
+        adjustStarCount(rating, count);
+        recalculateAverage();
+    }
+
+    private void adjustStarCount(int rating, long delta) {
+        switch (rating) {
+            case 0 -> zeroStarCount += delta;
+            case 1 -> oneStarCount += delta;
+            case 2 -> twoStarCount += delta;
+            case 3 -> threeStarCount += delta;
+            case 4 -> fourStarCount += delta;
+            case 5 -> fiveStarCount += delta;
+            default -> throw new IllegalArgumentException("Rating must be between 0 and 5: " + rating);
+        }
+    }
+
+    private void recalculateAverage() {
+        averageRating = reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+}
@@ -15,11 +15,14 @@ import java.util.Date;
 @Builder
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = {"book_id", "reviewer_id"})
+}, indexes = {
+        @Index(name = "idx_review_book_created", columnList = "book_id, created_at, id")
 })
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq")
+    @SequenceGenerator(name = "review_seq", sequenceName = "review_seq", allocationSize = 50)
     private Long id;
 
     private Long bookId;
@@ -1,14 +1,21 @@
 package com.reviews.reviews.feignclients;
 
+import com.ecommerce_books.common.events.CatalogEvent;
 import com.reviews.reviews.dto.BookResponseDTO;
+import com.reviews.reviews.dto.ReviewCountDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(name = "BOOK-SERVICE", path = "/api/v1/books")
 public interface BookClient {
 
     @GetMapping("/{id}")
     ResponseEntity<BookResponseDTO> getBookById(@PathVariable("id") Long id);
+
+    @PostMapping("/catalog-events/reviews")
+    ResponseEntity<Void> reviewCountChanged(@RequestBody CatalogEvent<ReviewCountDTO> reviewCountEvent);
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.reviews.reviews.repository;
+
+import com.reviews.reviews.entity.BookRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BookRatingSummaryRepository extends JpaRepository<BookRatingSummary, Long> {
+
+    @Modifying
+    @Query(value = "insert ignore into book_rating_summary (book_id, review_count, rating_sum, average_rating, " +
+            "zero_star_count, one_star_count, two_star_count, three_star_count, four_star_count, five_star_count) " +
+            "values (:bookId, 0, 0, 0, 0, 0, 0, 0, 0, 0)", nativeQuery = true)
+    void insertIfAbsent(@Param("bookId") Long bookId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from BookRatingSummary s where s.bookId = :bookId")
+    Optional<BookRatingSummary> findForUpdate(@Param("bookId") Long bookId);
+}
@@ -0,0 +1,12 @@
+package com.reviews.reviews.repository;
+
+/**
+ * Number of reviews with a given rating for one book.
+ */
+public interface RatingCount {
+    Long getBookId();
+
+    Integer getRating();
+
+    Long getTotal();
+}
@@ -3,10 +3,33 @@ package com.reviews.reviews.repository;
 import com.reviews.reviews.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface ReviewsRepository extends JpaRepository<Review, Long> {
     Page<Review> findByBookId(Long bookId, PageRequest pageRequest);
     Page<Review> findByReviewerId(Long reviewerId, PageRequest pageRequest);
     boolean existsByBookIdAndReviewerId(Long bookId, Long reviewerId);
+    Slice<Review> findByBookIdOrderByCreatedAtDescIdDesc(Long bookId, Pageable pageable);
+
+    @Query("select r from Review r where r.bookId = :bookId " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) " +
+            "order by r.createdAt desc, r.id desc")
+    Slice<Review> findByBookIdBefore(@Param("bookId") Long bookId,
+                                     @Param("createdAt") Date createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    @Query("select distinct r.bookId from Review r where r.bookId not in (select s.bookId from BookRatingSummary s)")
+    List<Long> findBookIdsWithoutSummary();
+
+    @Query("select r.bookId as bookId, r.rating as rating, count(r) as total from Review r " +
+            "where r.bookId = :bookId group by r.bookId, r.rating")
+    List<RatingCount> countRatingsForBook(@Param("bookId") Long bookId);
 }
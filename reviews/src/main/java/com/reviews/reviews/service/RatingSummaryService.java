@@ -0,0 +1,123 @@
+package com.reviews.reviews.service;
+
+import com.reviews.reviews.dto.RatingSummaryDTO;
+import com.reviews.reviews.entity.BookRatingSummary;
+import com.reviews.reviews.exceptions.BadRequestException;
+import com.reviews.reviews.repository.BookRatingSummaryRepository;
+import com.reviews.reviews.repository.RatingCount;
+import com.reviews.reviews.repository.ReviewsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains book_rating_summary. The update methods must run inside the transaction that writes the review,
+ * and lock the summary row so concurrent reviews of the same book never lose an update.
+ */
+@Slf4j
+@Service
+public class RatingSummaryService {
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final BookRatingSummaryRepository summaryRepository;
+    private final ReviewsRepository reviewsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RatingSummaryService(BookRatingSummaryRepository summaryRepository, ReviewsRepository reviewsRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.reviewsRepository = reviewsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BookRatingSummary addRating(Long bookId, int rating) {
+        BookRatingSummary summary = lockSummary(bookId);
+        summary.addRating(rating);
+        return summary;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BookRatingSummary changeRating(Long bookId, int oldRating, int newRating) {
+        BookRatingSummary summary = lockSummary(bookId);
+        summary.removeRating(oldRating);
+        summary.addRating(newRating);
+        return summary;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BookRatingSummary removeRating(Long bookId, int rating) {
+        BookRatingSummary summary = lockSummary(bookId);
+        summary.removeRating(rating);
+        return summary;
+    }
+
+    private BookRatingSummary lockSummary(Long bookId) {
+        summaryRepository.insertIfAbsent(bookId);
+        return summaryRepository.findForUpdate(bookId)
+                .orElseThrow(() -> new IllegalStateException("Rating summary missing for book id: " + bookId));
+    }
+
+    public RatingSummaryDTO getSummary(Long bookId) {
+        log.info("Getting rating summary for book with id: {}", bookId);
+        return summaryRepository.findById(bookId)
+                .map(this::toDTO)
+                .orElseGet(() -> toDTO(BookRatingSummary.builder().bookId(bookId).build()));
+    }
+
+    public Map<Long, RatingSummaryDTO> getSummaries(List<Long> bookIds) {
+        log.info("Getting rating summaries for {} books", bookIds.size());
+        if (bookIds.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Cannot get rating summaries for more than " + MAX_BATCH_SIZE + " books at once");
+        }
+        Map<Long, RatingSummaryDTO> summaries = new HashMap<>();
+        bookIds.forEach(bookId -> summaries.put(bookId, toDTO(BookRatingSummary.builder().bookId(bookId).build())));
+        summaryRepository.findAllById(bookIds).forEach(summary -> summaries.put(summary.getBookId(), toDTO(summary)));
+        return summaries;
+    }
+
+    /**
+     * Creates summaries for books whose reviews were written before book_rating_summary existed. Each book is
+     * rebuilt in its own transaction, and its reviews are counted only once the summary row is locked. A review
+     * written concurrently has then either committed and is counted, or waits for the lock and adds itself on
+     * top, so the backfill and review writes never overwrite each other.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillMissingSummaries() {
+        List<Long> bookIds = reviewsRepository.findBookIdsWithoutSummary();
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        bookIds.forEach(bookId -> transactionTemplate.executeWithoutResult(status -> rebuildSummary(bookId)));
+        log.info("Backfilled rating summaries for {} books", bookIds.size());
+    }
+
+    private void rebuildSummary(Long bookId) {
+        BookRatingSummary summary = lockSummary(bookId);
+        summary.clear();
+        reviewsRepository.countRatingsForBook(bookId)
+                .forEach(ratingCount -> summary.addRatings(ratingCount.getRating(), ratingCount.getTotal()));
+    }
+
+    private RatingSummaryDTO toDTO(BookRatingSummary summary) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        histogram.put(0, summary.getZeroStarCount());
+        histogram.put(1, summary.getOneStarCount());
+        histogram.put(2, summary.getTwoStarCount());
+        histogram.put(3, summary.getThreeStarCount());
+        histogram.put(4, summary.getFourStarCount());
+        histogram.put(5, summary.getFiveStarCount());
+        return new RatingSummaryDTO(summary.getBookId(), summary.getReviewCount(), summary.getAverageRating(), histogram);
+    }
+}
@@ -1,9 +1,14 @@
 package com.reviews.reviews.service;
 
+import com.ecommerce_books.common.events.CatalogEventPublisher;
 import com.reviews.reviews.dto.BookResponseDTO;
+import com.reviews.reviews.dto.CursorPageDTO;
+import com.reviews.reviews.dto.ReviewCountDTO;
 import com.reviews.reviews.dto.ReviewRequestDTO;
 import com.reviews.reviews.dto.ReviewResponseDTO;
+import com.reviews.reviews.entity.BookRatingSummary;
 import com.reviews.reviews.entity.Review;
+import com.reviews.reviews.exceptions.BadRequestException;
 import com.reviews.reviews.exceptions.BookNotFoundException;
 import com.reviews.reviews.exceptions.DuplicateReviewException;
 import com.reviews.reviews.exceptions.ReviewNotFoundException;
@@ -12,33 +17,47 @@ import com.reviews.reviews.feignclients.BookClient;
 import com.reviews.reviews.feignclients.UserClient;
 import com.reviews.reviews.mapper.ReviewMapper;
 import com.reviews.reviews.repository.ReviewsRepository;
+import com.reviews.reviews.util.ReviewCursor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 @Service
 public class ReviewService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ReviewsRepository reviewsRepository;
     private final ReviewMapper reviewMapper;
     private final UserClient userClient;
     private final BookClient bookClient;
+    private final CatalogEventPublisher catalogEventPublisher;
+    private final RatingSummaryService ratingSummaryService;
 
-    public ReviewService(ReviewsRepository reviewsRepository, ReviewMapper reviewMapper, UserClient userClient, BookClient bookClient) {
+    public ReviewService(ReviewsRepository reviewsRepository, ReviewMapper reviewMapper, UserClient userClient, BookClient bookClient,
+                         CatalogEventPublisher catalogEventPublisher, RatingSummaryService ratingSummaryService) {
         this.reviewsRepository = reviewsRepository;
         this.reviewMapper = reviewMapper;
         this.userClient = userClient;
         this.bookClient = bookClient;
+        this.catalogEventPublisher = catalogEventPublisher;
+        this.ratingSummaryService = ratingSummaryService;
     }
 
+    @Transactional
     public ReviewResponseDTO createReview(ReviewRequestDTO reviewRequestDTO, String username) {
         // Get userId from Authentication (stored as credentials by Gateway filter)
         Long userId = getUserIdFromAuthentication();
@@ -66,6 +85,8 @@ public class ReviewService {
                 .build();
 
         reviewsRepository.saveAndFlush(review);
+        BookRatingSummary summary = ratingSummaryService.addRating(review.getBookId(), review.getRating());
+        publishReviewCount(summary);
         return reviewMapper.toReviewResponseDTO(review);
     }
 
@@ -92,6 +113,7 @@ public class ReviewService {
         return reviewsPage.map(reviewMapper::toReviewResponseDTO);
     }
 
+    @Transactional
     public ReviewResponseDTO updateReview(Long id, ReviewRequestDTO reviewRequestDTO, String username) {
         Review existingReview = reviewsRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found with id: " + id));
@@ -110,6 +132,7 @@ public class ReviewService {
             throw new SecurityException("You are not authorized to update this review");
         }
 
+        ratingSummaryService.changeRating(existingReview.getBookId(), existingReview.getRating(), reviewRequestDTO.rating());
         existingReview.setRating(reviewRequestDTO.rating());
         existingReview.setReview(reviewRequestDTO.review());
         existingReview.setUpdatedAt(new java.util.Date());
@@ -128,6 +151,7 @@ public class ReviewService {
                 .anyMatch(grantedAuthority -> grantedAuthority.getAuthority().equals(role));
     }
 
+    @Transactional
     public void deleteReviewById(Long id, String username) {
         Review existingReview = reviewsRepository.findById(id)
                 .orElseThrow(() -> new ReviewNotFoundException("Review not found with id: " + id));
@@ -147,6 +171,26 @@ public class ReviewService {
         }
 
         reviewsRepository.deleteById(id);
+        BookRatingSummary summary = ratingSummaryService.removeRating(existingReview.getBookId(), existingReview.getRating());
+        publishReviewCount(summary);
+    }
+
+    /**
+     * Sent once the review's transaction has committed, so book-service never shows a count that was rolled back.
+     */
+    private void publishReviewCount(BookRatingSummary summary) {
+        ReviewCountDTO reviewCount = new ReviewCountDTO(summary.getBookId(), (int) summary.getReviewCount());
+        Runnable publish = () -> catalogEventPublisher.publishChanged("reviews", reviewCount.bookId(), reviewCount, bookClient::reviewCountChanged);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
     }
 
     public Page<ReviewResponseDTO> getBookReviews(Long bookId, int page, int size, String sortBy, String sortDir) {
@@ -158,6 +202,32 @@ public class ReviewService {
         return reviewsPage.map(reviewMapper::toReviewResponseDTO);
     }
 
+    /**
+     * Keyset pagination over a book's reviews, newest first. Skips OFFSET and COUNT(*) so deep pages stay cheap.
+     */
+    public CursorPageDTO<ReviewResponseDTO> scrollBookReviews(Long bookId, String cursor, int size) {
+        log.info("Scrolling book reviews for book with id: {}, cursor: {}, size: {}", bookId, cursor, size);
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<Review> reviewSlice;
+        if (cursor == null || cursor.isBlank()) {
+            reviewSlice = reviewsRepository.findByBookIdOrderByCreatedAtDescIdDesc(bookId, pageRequest);
+        } else {
+            ReviewCursor after = ReviewCursor.decode(cursor);
+            reviewSlice = reviewsRepository.findByBookIdBefore(bookId, after.createdAt(), after.id(), pageRequest);
+        }
+
+        List<Review> reviews = reviewSlice.getContent();
+        String nextCursor = null;
+        if (reviewSlice.hasNext() && !reviews.isEmpty()) {
+            Review last = reviews.get(reviews.size() - 1);
+            nextCursor = new ReviewCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(reviews.stream().map(reviewMapper::toReviewResponseDTO).toList(), nextCursor);
+    }
+
     public Page<ReviewResponseDTO> getMyReviews(String username, int page, int size, String sortBy, String sortDir) {
         log.info("Getting my reviews for user: " + username);
 
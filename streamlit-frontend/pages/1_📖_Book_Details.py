@@ -34,6 +34,15 @@ if not book_id:
         st.switch_page("app.py")
     st.stop()
 
+# Load the book, its rating summary and reviews in one round trip
+details = None
+details_error = None
+try:
+    details = api.get_storefront_book(book_id, review_page=0, review_size=20)
+    book = {**book, **(details.get('book') or {})}
+except Exception as e:
+    details_error = e
+
 # Back button at top
 if st.button("← Back to Browse Books"):
     st.switch_page("app.py")
@@ -84,13 +93,16 @@ st.divider()
 # Reviews section
 st.header("⭐ Customer Reviews")
 
-try:
-    reviews_data = api.get_reviews_by_book_id(book_id, page=0, size=20)
-    reviews = reviews_data.get('content', [])
+if details_error:
+    st.error(f"Error loading reviews: {details_error}")
+elif not details.get('reviewsAvailable'):
+    st.warning("⏳ Reviews are taking longer than usual. Refresh the page to try again.")
+else:
+    reviews = details['reviews'].get('content', [])
+    summary = details['ratingSummary']
 
     if reviews:
-        # Calculate average rating
-        avg_rating = sum(r['rating'] for r in reviews) / len(reviews)
+        avg_rating = summary.get('averageRating', 0)
 
         col1, col2 = st.columns([1, 3])
         with col1:
@@ -98,7 +110,7 @@ try:
             st.write(render_star_rating(int(avg_rating)))
 
         with col2:
-            st.metric("Total Reviews", len(reviews))
+            st.metric("Total Reviews", summary.get('reviewCount', len(reviews)))
 
         st.divider()
 
@@ -120,9 +132,6 @@ try:
     else:
         st.info("📝 No reviews yet. Be the first to review this book!")
 
-except Exception as e:
-    st.error(f"Error loading reviews: {e}")
-
 st.divider()
 
 # Write review section
@@ -357,6 +357,14 @@ class APIClient:
 
     # ==================== REVIEWS ====================
 
+    def get_storefront_book(self, book_id: int, review_page: int = 0, review_size: int = 20) -> Dict[str, Any]:
+        """Get a book with its rating summary and reviews in one call (reviews may be missing if slow)"""
+        response = requests.get(
+            f"{self.base_url}/api/v1/storefront/books/{book_id}",
+            params={"reviewPage": review_page, "reviewSize": review_size}
+        )
+        return self._handle_response(response)
+
     def get_reviews_by_book_id(self, book_id: int, page: int = 0, size: int = 10,
                                sort_by: str = "createdAt", sort_dir: str = "desc") -> Dict[str, Any]:
         """Get reviews for a specific book"""